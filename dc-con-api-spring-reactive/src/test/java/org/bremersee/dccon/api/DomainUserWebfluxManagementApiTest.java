@@ -16,11 +16,8 @@
 
 package org.bremersee.dccon.api;
 
-import static org.bremersee.test.web.RestApiAssertionType.METHOD_MUST_NOT_BE_NULL;
-import static org.bremersee.test.web.RestApiTesterExclusion.exclusionBuilder;
-import static org.bremersee.test.web.RestApiTesterPath.PathType.CLASS;
-import static org.bremersee.test.web.RestApiTesterPath.PathType.METHOD;
-import static org.bremersee.test.web.RestApiTesterPath.pathBuilder;
+import static org.bremersee.dccon.api.RestApiExclusions.methodExclusion;
+import static org.bremersee.dccon.api.RestApiExclusions.producesExclusion;
 
 import org.bremersee.test.web.RestApiTester;
 import org.junit.jupiter.api.Test;
@@ -40,21 +37,14 @@ class DomainUserWebfluxManagementApiTest {
     RestApiTester.assertSameApi(
         DomainUserManagementApi.class,
         DomainUserWebfluxManagementApi.class,
-        exclusionBuilder()
-            .path(pathBuilder()
-                .add(CLASS, "DomainUserManagementApi")
-                .add(METHOD, "updateUserAvatar")
-                .build())
-            .type(METHOD_MUST_NOT_BE_NULL)
-            .build(),
-        exclusionBuilder()
-            .path(pathBuilder()
-                .add(CLASS, "DomainUserWebfluxManagementApi")
-                .add(METHOD, "updateUserAvatar")
-                .build())
-            .type(METHOD_MUST_NOT_BE_NULL)
-            .build()
-    );
+        methodExclusion("DomainUserManagementApi", "updateUserAvatar"),
+        methodExclusion("DomainUserWebfluxManagementApi", "updateUserAvatar"),
+        producesExclusion("DomainUserManagementApi", "getUsers"),
+        producesExclusion("DomainUserWebfluxManagementApi", "getUsers"),
+        methodExclusion("DomainUserManagementApi", "saveUsers"),
+        methodExclusion("DomainUserWebfluxManagementApi", "saveUsers"),
+        producesExclusion("DomainUserManagementApi", "getUsersByName"),
+        producesExclusion("DomainUserWebfluxManagementApi", "getUsersByName"));
   }
 
-}
\ No newline at end of file
+}
@@ -16,6 +16,10 @@
 
 package org.bremersee.dccon.api;
 
+import static org.bremersee.dccon.api.RestApiExclusions.methodExclusion;
+import static org.bremersee.dccon.api.RestApiExclusions.producesExclusion;
+import static org.bremersee.dccon.api.RestApiExclusions.responsesExclusion;
+
 import org.bremersee.test.web.RestApiTester;
 import org.junit.jupiter.api.Test;
 
@@ -33,7 +37,24 @@ class NameServerWebfluxManagementApiTest {
   void assertRestApiAnnotations() {
     RestApiTester.assertSameApi(
         NameServerManagementApi.class,
-        NameServerWebfluxManagementApi.class);
+        NameServerWebfluxManagementApi.class,
+        producesExclusion("NameServerManagementApi", "query"),
+        producesExclusion("NameServerWebfluxManagementApi", "query"),
+        producesExclusion("NameServerManagementApi", "queryAll"),
+        producesExclusion("NameServerWebfluxManagementApi", "queryAll"),
+        producesExclusion("NameServerManagementApi", "getDhcpLeases"),
+        producesExclusion("NameServerWebfluxManagementApi", "getDhcpLeases"),
+        methodExclusion("NameServerWebfluxManagementApi", "getDhcpLeaseEvents"),
+        producesExclusion("NameServerManagementApi", "getDnsZones"),
+        producesExclusion("NameServerWebfluxManagementApi", "getDnsZones"),
+        producesExclusion("NameServerManagementApi", "getDnsNodes"),
+        producesExclusion("NameServerWebfluxManagementApi", "getDnsNodes"),
+        methodExclusion("NameServerManagementApi", "saveDnsNodes"),
+        methodExclusion("NameServerWebfluxManagementApi", "saveDnsNodes"),
+        producesExclusion("NameServerManagementApi", "deleteDnsNodes"),
+        producesExclusion("NameServerWebfluxManagementApi", "deleteDnsNodes"),
+        responsesExclusion("NameServerManagementApi", "deleteDnsNodes"),
+        responsesExclusion("NameServerWebfluxManagementApi", "deleteDnsNodes"));
   }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.api;
+
+import static org.bremersee.test.web.RestApiAssertionType.METHOD_MUST_NOT_BE_NULL;
+import static org.bremersee.test.web.RestApiAssertionType.SAME_ANNOTATION_ATTRIBUTE_VALUE;
+import static org.bremersee.test.web.RestApiTesterExclusion.exclusionBuilder;
+import static org.bremersee.test.web.RestApiTesterPath.PathType.ANNOTATION;
+import static org.bremersee.test.web.RestApiTesterPath.PathType.ATTRIBUTE;
+import static org.bremersee.test.web.RestApiTesterPath.PathType.CLASS;
+import static org.bremersee.test.web.RestApiTesterPath.PathType.METHOD;
+import static org.bremersee.test.web.RestApiTesterPath.pathBuilder;
+
+import org.bremersee.test.web.RestApiTesterExclusion;
+
+/**
+ * The exclusions of the rest api tests, that compare the blocking and the webflux api.
+ *
+ * @author Christian Bremer
+ */
+final class RestApiExclusions {
+
+  private RestApiExclusions() {
+  }
+
+  /**
+   * Excludes a method, that exists only in one api or that has another signature.
+   *
+   * @param className the class name
+   * @param methodName the method name
+   * @return the exclusion
+   */
+  static RestApiTesterExclusion methodExclusion(String className, String methodName) {
+    return exclusionBuilder()
+        .path(pathBuilder()
+            .add(CLASS, className)
+            .add(METHOD, methodName)
+            .build())
+        .type(METHOD_MUST_NOT_BE_NULL)
+        .build();
+  }
+
+  /**
+   * Excludes the media types, that are produced by a method (a webflux method, that returns a
+   * {@code Flux}, produces json, ndjson and event streams).
+   *
+   * @param className the class name
+   * @param methodName the method name
+   * @return the exclusion
+   */
+  static RestApiTesterExclusion producesExclusion(String className, String methodName) {
+    return attributeExclusion(className, methodName, "RequestMapping", "produces");
+  }
+
+  /**
+   * Excludes the documented responses of a method.
+   *
+   * @param className the class name
+   * @param methodName the method name
+   * @return the exclusion
+   */
+  static RestApiTesterExclusion responsesExclusion(String className, String methodName) {
+    return attributeExclusion(className, methodName, "ApiResponses", "value");
+  }
+
+  /**
+   * Excludes an attribute of an annotation of a method.
+   *
+   * @param className the class name
+   * @param methodName the method name
+   * @param annotationName the annotation name
+   * @param attributeName the attribute name
+   * @return the exclusion
+   */
+  static RestApiTesterExclusion attributeExclusion(
+      String className,
+      String methodName,
+      String annotationName,
+      String attributeName) {
+    return exclusionBuilder()
+        .path(pathBuilder()
+            .add(CLASS, className)
+            .add(METHOD, methodName)
+            .add(ANNOTATION, annotationName)
+            .add(ATTRIBUTE, attributeName)
+            .build())
+        .type(SAME_ANNOTATION_ATTRIBUTE_VALUE)
+        .build();
+  }
+
+}
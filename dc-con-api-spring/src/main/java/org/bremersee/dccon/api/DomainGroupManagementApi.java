@@ -18,6 +18,7 @@ package org.bremersee.dccon.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -25,13 +26,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Set;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import org.bremersee.dccon.model.ContinuationToken;
 import org.bremersee.dccon.model.DomainGroup;
+import org.bremersee.dccon.model.DomainGroupChanges;
+import org.bremersee.dccon.model.DomainGroupMember;
 import org.bremersee.exception.model.RestApiException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -50,6 +59,12 @@ public interface DomainGroupManagementApi {
    *
    * @param sort the sort order
    * @param query the query
+   * @param withMembers specifies whether the members should be returned or not (default
+   *     is {@code true}); without members {@code memberCount} is authoritative, the
+   *     {@code members} are missing or empty
+   * @param fields the json properties to return; if empty, all properties are returned; an
+   *     unknown property is rejected with {@code 400}
+   * @param ifNoneMatch the entity tags of the cached representations (optional)
    * @return the groups
    */
   @Operation(
@@ -60,9 +75,22 @@ public interface DomainGroupManagementApi {
       @ApiResponse(
           responseCode = "200",
           description = "A list of domain groups.",
+          headers = @Header(
+              name = HttpHeaders.ETAG,
+              description = "The weak entity tag of the response.",
+              schema = @Schema(type = "string")),
           content = @Content(
               array = @ArraySchema(
                   schema = @Schema(implementation = DomainGroup.class)))),
+      @ApiResponse(
+          responseCode = "304",
+          description = "Not modified."),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request (unknown fields).",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
       @ApiResponse(
           responseCode = "500",
           description = "Fatal server error.",
@@ -80,7 +108,64 @@ public interface DomainGroupManagementApi {
           defaultValue = DomainGroup.DEFAULT_SORT_ORDER) String sort,
 
       @Parameter(description = "A query.")
-      @RequestParam(name = "q", required = false) String query);
+      @RequestParam(name = "q", required = false) String query,
+
+      @Parameter(description = "Specifies whether the members should be returned or not. "
+          + "The memberCount is returned in any case.")
+      @RequestParam(name = "withMembers", defaultValue = "true") Boolean withMembers,
+
+      @Parameter(description = "The json properties to return (comma separated), default is all.")
+      @RequestParam(name = "fields", required = false) List<String> fields,
+
+      @Parameter(description = "The entity tags of the cached representations.")
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+  /**
+   * Get the domain groups that were created, modified or deleted since the given watermark.
+   * Without a watermark no domain groups are returned, but only the current watermark, because
+   * the changes would be all domain groups of the domain in one response. A client bootstraps
+   * by first getting the current watermark, then reading all domain groups page by page with
+   * {@link #getGroups} and then requesting the changes since that watermark. Changes made while
+   * paging may be returned again, so applying them must be idempotent.
+   * The path is not below {@code /api/groups}, so that it can't collide with a group named
+   * {@code changes}.
+   *
+   * @param since the watermark of the previous request (optional); without it only the current
+   *     watermark is returned
+   * @return the changed domain groups, the tombstones of the deleted ones and the new watermark
+   */
+  @Operation(
+      summary = "Get the domain groups that were changed since a watermark.",
+      operationId = "getGroupChanges",
+      tags = {"domain-group-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The changed and deleted domain groups and the new watermark.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = DomainGroupChanges.class))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request (invalid or expired watermark).",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(
+      value = "/api/group-changes",
+      produces = {"application/json"},
+      method = RequestMethod.GET)
+  ResponseEntity<DomainGroupChanges> getGroupChanges(
+      @Parameter(description = "The watermark of the previous request. Without it only the "
+          + "current watermark is returned.")
+      @RequestParam(name = "since", required = false) String since);
 
   /**
    * Add domain group.
@@ -131,6 +216,7 @@ public interface DomainGroupManagementApi {
    * Get domain group by name.
    *
    * @param groupName the group name
+   * @param ifNoneMatch the entity tags of the cached representations (optional)
    * @return the domain group
    */
   @Operation(
@@ -141,9 +227,16 @@ public interface DomainGroupManagementApi {
       @ApiResponse(
           responseCode = "200",
           description = "The domain group with the specified name.",
+          headers = @Header(
+              name = HttpHeaders.ETAG,
+              description = "The weak entity tag of the response.",
+              schema = @Schema(type = "string")),
           content = @Content(
               schema = @Schema(
                   implementation = DomainGroup.class))),
+      @ApiResponse(
+          responseCode = "304",
+          description = "Not modified."),
       @ApiResponse(
           responseCode = "400",
           description = "Bad request.",
@@ -169,7 +262,10 @@ public interface DomainGroupManagementApi {
       method = RequestMethod.GET)
   ResponseEntity<DomainGroup> getGroup(
       @Parameter(description = "The domain group name.", required = true)
-      @PathVariable("groupName") String groupName);
+      @PathVariable("groupName") String groupName,
+
+      @Parameter(description = "The entity tags of the cached representations.")
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
   /**
    * Update domain group.
@@ -220,6 +316,159 @@ public interface DomainGroupManagementApi {
       @Parameter(description = "The domain group.", required = true)
       @Valid @RequestBody DomainGroup domainGroup);
 
+  /**
+   * Get the members of a domain group sorted by name. If a {@code limit} is given, at most {@code
+   * limit} members are returned and the response header {@link ContinuationToken#HEADER_NAME}
+   * contains the token of the next page (it is missing on the last page).
+   *
+   * @param groupName the group name
+   * @param limit the maximum number of members to return (optional)
+   * @param after the continuation token of the previous page (optional)
+   * @return the members of the domain group
+   */
+  @Operation(
+      summary = "Get the members of a domain group.",
+      operationId = "getGroupMembers",
+      tags = {"domain-group-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The members of the domain group.",
+          headers = @Header(
+              name = ContinuationToken.HEADER_NAME,
+              description = "The continuation token of the next page.",
+              schema = @Schema(type = "string")),
+          content = @Content(
+              array = @ArraySchema(
+                  schema = @Schema(implementation = DomainGroupMember.class)))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request (invalid limit or continuation token).",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "404",
+          description = "Not found.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(
+      value = "/api/groups/{groupName}/members",
+      produces = {"application/json"},
+      method = RequestMethod.GET)
+  ResponseEntity<List<DomainGroupMember>> getGroupMembers(
+      @Parameter(description = "The name of the domain group.", required = true)
+      @PathVariable("groupName") String groupName,
+
+      @Parameter(description = "The maximum number of members to return.")
+      @RequestParam(name = "limit", required = false)
+      @Min(1) @Max(ContinuationToken.MAX_LIMIT) Integer limit,
+
+      @Parameter(description = "The continuation token of the previous page.")
+      @RequestParam(name = "after", required = false) String after);
+
+  /**
+   * Add members to a domain group. Only the given members are sent, the other members of the
+   * group are not touched.
+   *
+   * @param groupName the group name
+   * @param members the names of the members to add
+   * @return void response
+   */
+  @Operation(
+      summary = "Add members to a domain group.",
+      operationId = "addGroupMembers",
+      tags = {"domain-group-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The members were successfully added."),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "404",
+          description = "Not found.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(
+      value = "/api/groups/{groupName}/members",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.POST)
+  ResponseEntity<Void> addGroupMembers(
+      @Parameter(description = "The name of the domain group.", required = true)
+      @PathVariable("groupName") String groupName,
+
+      @Parameter(description = "The names of the members to add.", required = true)
+      @RequestBody Set<String> members);
+
+  /**
+   * Remove members from a domain group. Only the given members are sent, the other members of the
+   * group are not touched.
+   *
+   * @param groupName the group name
+   * @param members the names of the members to remove
+   * @return void response
+   */
+  @Operation(
+      summary = "Remove members from a domain group.",
+      operationId = "removeGroupMembers",
+      tags = {"domain-group-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The members were successfully removed."),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "404",
+          description = "Not found.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(
+      value = "/api/groups/{groupName}/members",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.DELETE)
+  ResponseEntity<Void> removeGroupMembers(
+      @Parameter(description = "The name of the domain group.", required = true)
+      @PathVariable("groupName") String groupName,
+
+      @Parameter(description = "The names of the members to remove.", required = true)
+      @RequestBody Set<String> members);
+
   /**
    * Checks whether a domain group exists.
    *
@@ -282,6 +531,84 @@ public interface DomainGroupManagementApi {
       @Parameter(description = "The name of the domain group.", required = true)
       @PathVariable("groupName") String groupName);
 
+  /**
+   * Get the group names of the given ones that exist as domain group.
+   *
+   * @param groupNames the group names to check
+   * @return the group names that exist as domain group
+   */
+  @Operation(
+      summary = "Checks which of the given group names exist as domain group.",
+      operationId = "getExistingGroupNames",
+      tags = {"domain-group-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The group names that exist as domain group.",
+          content = @Content(
+              array = @ArraySchema(
+                  uniqueItems = true,
+                  schema = @Schema(implementation = String.class)))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(value = "/api/groups/batch-exists",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.POST)
+  ResponseEntity<Set<String>> getExistingGroupNames(
+      @Parameter(description = "The group names to check.", required = true)
+      @RequestBody Set<String> groupNames);
+
+  /**
+   * Get the group names of the given ones that are in use.
+   *
+   * @param groupNames the group names to check
+   * @return the group names that are in use
+   */
+  @Operation(
+      summary = "Checks which of the given group names are in use.",
+      operationId = "getGroupNamesInUse",
+      tags = {"domain-group-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The group names that are in use.",
+          content = @Content(
+              array = @ArraySchema(
+                  uniqueItems = true,
+                  schema = @Schema(implementation = String.class)))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(value = "/api/groups/batch-in-use",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.POST)
+  ResponseEntity<Set<String>> getGroupNamesInUse(
+      @Parameter(description = "The group names to check.", required = true)
+      @RequestBody Set<String> groupNames);
+
   /**
    * Delete domain group.
    *
@@ -18,6 +18,7 @@ package org.bremersee.dccon.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -25,17 +26,26 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
+import java.util.Set;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import org.bremersee.common.model.TwoLetterLanguageCode;
 import org.bremersee.dccon.model.AvatarDefault;
+import org.bremersee.dccon.model.BulkItemResult;
+import org.bremersee.dccon.model.ContinuationToken;
 import org.bremersee.dccon.model.DomainUser;
+import org.bremersee.dccon.model.DomainUserChanges;
+import org.bremersee.dccon.model.DomainUserLookup;
 import org.bremersee.dccon.model.Password;
 import org.bremersee.exception.model.RestApiException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -51,10 +61,20 @@ import org.springframework.web.multipart.MultipartFile;
 public interface DomainUserManagementApi {
 
   /**
-   * Get domain users.
+   * Get domain users. If a {@code limit} is given, at most {@code limit} domain users are
+   * returned and the response header {@link ContinuationToken#HEADER_NAME} contains the token of
+   * the next page (it is missing on the last page). The token must be sent back as {@code after}
+   * parameter together with the same sort order. The token contains only the user name of the
+   * last entry, so {@code after} is only supported, if the sort order starts with
+   * {@code userName}; otherwise the request is rejected with {@code 400}.
    *
    * @param sort the sort
    * @param query the query
+   * @param limit the maximum number of domain users to return (optional)
+   * @param after the continuation token of the previous page (optional)
+   * @param fields the json properties to return; if empty, all properties are returned; an
+   *     unknown property is rejected with {@code 400}
+   * @param ifNoneMatch the entity tags of the cached representations (optional)
    * @return the domain users
    */
   @Operation(
@@ -65,9 +85,27 @@ public interface DomainUserManagementApi {
       @ApiResponse(
           responseCode = "200",
           description = "A list of domain users.",
+          headers = {
+              @Header(
+                  name = ContinuationToken.HEADER_NAME,
+                  description = "The continuation token of the next page.",
+                  schema = @Schema(type = "string")),
+              @Header(
+                  name = HttpHeaders.ETAG,
+                  description = "The weak entity tag of the response.",
+                  schema = @Schema(type = "string"))},
           content = @Content(
               array = @ArraySchema(
                   schema = @Schema(implementation = DomainUser.class)))),
+      @ApiResponse(
+          responseCode = "304",
+          description = "Not modified."),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request (invalid limit, continuation token, sort order or fields).",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
       @ApiResponse(
           responseCode = "500",
           description = "Fatal server error.",
@@ -85,7 +123,112 @@ public interface DomainUserManagementApi {
           defaultValue = DomainUser.DEFAULT_SORT_ORDER) String sort,
 
       @Parameter(description = "A query.")
-      @RequestParam(name = "q", required = false) String query);
+      @RequestParam(name = "q", required = false) String query,
+
+      @Parameter(description = "The maximum number of domain users to return.")
+      @RequestParam(name = "limit", required = false)
+      @Min(1) @Max(ContinuationToken.MAX_LIMIT) Integer limit,
+
+      @Parameter(description = "The continuation token of the previous page.")
+      @RequestParam(name = "after", required = false) String after,
+
+      @Parameter(description = "The json properties to return (comma separated), default is all.")
+      @RequestParam(name = "fields", required = false) List<String> fields,
+
+      @Parameter(description = "The entity tags of the cached representations.")
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
+
+  /**
+   * Get the domain users that were created, modified or deleted since the given watermark.
+   * Without a watermark no domain users are returned, but only the current watermark, because
+   * the changes would be all domain users of the domain in one response. A client bootstraps
+   * by first getting the current watermark, then reading all domain users page by page with
+   * {@link #getUsers} and then requesting the changes since that watermark. Changes made while
+   * paging may be returned again, so applying them must be idempotent.
+   * The path is not below {@code /api/users}, so that it can't collide with a user named
+   * {@code changes}.
+   *
+   * @param since the watermark of the previous request (optional); without it only the current
+   *     watermark is returned
+   * @return the changed domain users, the tombstones of the deleted ones and the new watermark
+   */
+  @Operation(
+      summary = "Get the domain users that were changed since a watermark.",
+      operationId = "getUserChanges",
+      tags = {"domain-user-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The changed and deleted domain users and the new watermark.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = DomainUserChanges.class))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request (invalid or expired watermark).",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(
+      value = "/api/user-changes",
+      produces = {"application/json"},
+      method = RequestMethod.GET)
+  ResponseEntity<DomainUserChanges> getUserChanges(
+      @Parameter(description = "The watermark of the previous request. Without it only the "
+          + "current watermark is returned.")
+      @RequestParam(name = "since", required = false) String since);
+
+  /**
+   * Get domain users by name. There is one result per user name in the order of the request;
+   * user names without a domain user have the not found flag.
+   *
+   * @param fields the json properties to return; if empty, all properties are returned; an
+   *     unknown property is rejected with {@code 400}
+   * @param userNames the user names
+   * @return the result of each user name
+   */
+  @Operation(
+      summary = "Get domain users by name.",
+      operationId = "getUsersByName",
+      tags = {"domain-user-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The result of each user name.",
+          content = @Content(
+              array = @ArraySchema(
+                  schema = @Schema(implementation = DomainUserLookup.class)))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(
+      value = "/api/users/batch-get",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.POST)
+  ResponseEntity<List<DomainUserLookup>> getUsersByName(
+      @Parameter(description = "The json properties to return (comma separated), default is all.")
+      @RequestParam(name = "fields", required = false) List<String> fields,
+
+      @Parameter(description = "The user names.", required = true)
+      @RequestBody List<String> userNames);
 
   /**
    * Add a domain user.
@@ -134,10 +277,68 @@ public interface DomainUserManagementApi {
       @Parameter(description = "The domain user to add.", required = true)
       @Valid @RequestBody DomainUser domainUser);
 
+  /**
+   * Add or update domain users. A domain user that doesn't exist is added, an existing one is
+   * updated. Every domain user is processed on its own, so a failure of one doesn't stop the
+   * others. The domain users are validated one by one, too: an invalid domain user gets a result
+   * with status {@code 400} and the error, it doesn't reject the whole request.
+   *
+   * @param email specifies whether to send an email to added users or not (default is {@code
+   *     false})
+   * @param language the language of the email
+   * @param updateGroups the update groups flag of existing users (default is false)
+   * @param domainUsers the domain users to add or update
+   * @return the result of every domain user in the order of the request
+   */
+  @Operation(
+      summary = "Add or update domain users.",
+      operationId = "saveUsers",
+      tags = {"domain-user-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The result of every domain user.",
+          content = @Content(
+              array = @ArraySchema(
+                  schema = @Schema(implementation = BulkItemResult.class)))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request (the body can't be read).",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(
+      value = "/api/users/bulk",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.POST)
+  ResponseEntity<List<BulkItemResult>> saveUsers(
+      @Parameter(description = "Specifies whether to send an email to added users or not.")
+      @RequestParam(name = "email", defaultValue = "false") Boolean email,
+
+      @Parameter(description = "The language of the email.")
+      @RequestParam(name = "lang", defaultValue = "en") TwoLetterLanguageCode language,
+
+      @Parameter(description = "Specifies whether the groups should also be updated or not.")
+      @RequestParam(name = "updateGroups", defaultValue = "false") Boolean updateGroups,
+
+      @Parameter(description = "The domain users to add or update.", required = true)
+      @RequestBody List<DomainUser> domainUsers);
+
   /**
    * Get domain user.
    *
    * @param userName the user name
+   * @param fields the json properties to return; if empty, all properties are returned; an
+   *     unknown property is rejected with {@code 400}
+   * @param ifNoneMatch the entity tags of the cached representations (optional)
    * @return the domain user
    */
   @Operation(
@@ -148,9 +349,16 @@ public interface DomainUserManagementApi {
       @ApiResponse(
           responseCode = "200",
           description = "The domain user with the specified name.",
+          headers = @Header(
+              name = HttpHeaders.ETAG,
+              description = "The weak entity tag of the response.",
+              schema = @Schema(type = "string")),
           content = @Content(
               schema = @Schema(
                   implementation = DomainUser.class))),
+      @ApiResponse(
+          responseCode = "304",
+          description = "Not modified."),
       @ApiResponse(
           responseCode = "400",
           description = "Bad request.",
@@ -176,7 +384,13 @@ public interface DomainUserManagementApi {
       method = RequestMethod.GET)
   ResponseEntity<DomainUser> getUser(
       @Parameter(description = "The user name of the domain user.", required = true)
-      @PathVariable("userName") String userName);
+      @PathVariable("userName") String userName,
+
+      @Parameter(description = "The json properties to return (comma separated), default is all.")
+      @RequestParam(name = "fields", required = false) List<String> fields,
+
+      @Parameter(description = "The entity tags of the cached representations.")
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch);
 
   /**
    * Get avatar of domain user.
@@ -484,6 +698,84 @@ public interface DomainUserManagementApi {
       @Parameter(description = "The user name of the domain user.",
           required = true) @PathVariable("userName") String userName);
 
+  /**
+   * Get the user names of the given ones that exist as domain user.
+   *
+   * @param userNames the user names to check
+   * @return the user names that exist as domain user
+   */
+  @Operation(
+      summary = "Checks which of the given user names exist as domain user.",
+      operationId = "getExistingUserNames",
+      tags = {"domain-user-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The user names that exist as domain user.",
+          content = @Content(
+              array = @ArraySchema(
+                  uniqueItems = true,
+                  schema = @Schema(implementation = String.class)))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(value = "/api/users/batch-exists",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.POST)
+  ResponseEntity<Set<String>> getExistingUserNames(
+      @Parameter(description = "The user names to check.", required = true)
+      @RequestBody Set<String> userNames);
+
+  /**
+   * Get the user names of the given ones that are in use.
+   *
+   * @param userNames the user names to check
+   * @return the user names that are in use
+   */
+  @Operation(
+      summary = "Checks which of the given user names are in use.",
+      operationId = "getUserNamesInUse",
+      tags = {"domain-user-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The user names that are in use.",
+          content = @Content(
+              array = @ArraySchema(
+                  uniqueItems = true,
+                  schema = @Schema(implementation = String.class)))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(value = "/api/users/batch-in-use",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.POST)
+  ResponseEntity<Set<String>> getUserNamesInUse(
+      @Parameter(description = "The user names to check.", required = true)
+      @RequestBody Set<String> userNames);
+
   /**
    * Delete domain user.
    *
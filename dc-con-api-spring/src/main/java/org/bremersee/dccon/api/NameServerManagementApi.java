@@ -18,6 +18,7 @@ package org.bremersee.dccon.api;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -26,15 +27,24 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.List;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import org.bremersee.dccon.model.BulkItemResult;
+import org.bremersee.dccon.model.ContinuationToken;
 import org.bremersee.dccon.model.DhcpLease;
 import org.bremersee.dccon.model.DnsNode;
+import org.bremersee.dccon.model.DnsNodeChanges;
+import org.bremersee.dccon.model.DnsNodeFilter;
+import org.bremersee.dccon.model.DnsPair;
 import org.bremersee.dccon.model.DnsZone;
 import org.bremersee.dccon.model.UnknownFilter;
 import org.bremersee.exception.model.RestApiException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -53,6 +63,7 @@ public interface NameServerManagementApi {
    *
    * @param query the query, can be a host name, an IP or a MAC address
    * @param unknownFilter the unknown filter
+   * @param raw specifies whether the raw active directory values of the records should be returned
    * @return found dns nodes
    */
   @Operation(
@@ -88,7 +99,64 @@ public interface NameServerManagementApi {
       @RequestParam(name = "q") String query,
 
       @Parameter(description = "The unknown filter.")
-      @RequestParam(name = "filter", defaultValue = "NO_UNKNOWN") UnknownFilter unknownFilter);
+      @RequestParam(name = "filter", defaultValue = "NO_UNKNOWN") UnknownFilter unknownFilter,
+
+      @Parameter(description = "Specifies whether the raw active directory values of the records "
+          + "should be returned or not.")
+      @RequestParam(name = "raw", defaultValue = "false") Boolean raw);
+
+  /**
+   * Query dns nodes with many queries at once. Every found dns node is returned as pair together
+   * with its zone and the query that found it. A query, that doesn't resolve to a dns node, is
+   * returned as pair without zone and node and with {@code nodeExists = false} (see {@link
+   * DnsPair#notFound(String)}), so every query has at least one pair. The server may deduplicate
+   * and parallelize the lookups.
+   *
+   * @param unknownFilter the unknown filter
+   * @param raw specifies whether the raw active directory values of the records should be returned
+   * @param queries the queries, each can be a host name, an IP or a MAC address
+   * @return the dns pairs of every query
+   */
+  @Operation(
+      summary = "Dns query with many queries.",
+      operationId = "queryAll",
+      tags = {"name-server-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The dns pairs of every query.",
+          content = @Content(
+              array = @ArraySchema(
+                  schema = @Schema(implementation = DnsPair.class)))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(
+      value = "/api/dns/query",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.POST)
+  ResponseEntity<List<DnsPair>> queryAll(
+      @Parameter(description = "The unknown filter.")
+      @RequestParam(name = "filter", defaultValue = "NO_UNKNOWN") UnknownFilter unknownFilter,
+
+      @Parameter(description = "Specifies whether the raw active directory values of the records "
+          + "should be returned or not.")
+      @RequestParam(name = "raw", defaultValue = "false") Boolean raw,
+
+      @Parameter(description = "The queries, each can be a host name, an IP or a MAC address.",
+          required = true)
+      @RequestBody List<String> queries);
 
   /**
    * Gets dhcp leases.
@@ -132,6 +200,81 @@ public interface NameServerManagementApi {
       @RequestParam(value = "sort",
           defaultValue = DhcpLease.SORT_ORDER_BEGIN_HOSTNAME) String sort);
 
+  /**
+   * Get the dhcp lease of the given mac address. The mac address may be written with colons,
+   * hyphens or without separators.
+   *
+   * @param mac the mac address
+   * @return the dhcp lease
+   */
+  @Operation(
+      summary = "Get the dhcp lease of a mac address.",
+      operationId = "getDhcpLeaseByMac",
+      tags = {"name-server-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The dhcp lease.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = DhcpLease.class))),
+      @ApiResponse(
+          responseCode = "404",
+          description = "Not found.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(value = "/api/dns/dhcp-leases/by-mac/{mac}",
+      produces = {"application/json"},
+      method = RequestMethod.GET)
+  ResponseEntity<DhcpLease> getDhcpLeaseByMac(
+      @Parameter(description = "The mac address.", required = true)
+      @PathVariable("mac") String mac);
+
+  /**
+   * Get the dhcp lease of the given ip address.
+   *
+   * @param ip the ip address
+   * @return the dhcp lease
+   */
+  @Operation(
+      summary = "Get the dhcp lease of an ip address.",
+      operationId = "getDhcpLeaseByIp",
+      tags = {"name-server-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The dhcp lease.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = DhcpLease.class))),
+      @ApiResponse(
+          responseCode = "404",
+          description = "Not found.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(value = "/api/dns/dhcp-leases/by-ip/{ip:.+}",
+      produces = {"application/json"},
+      method = RequestMethod.GET)
+  ResponseEntity<DhcpLease> getDhcpLeaseByIp(
+      @Parameter(description = "The ip address.", required = true)
+      @PathVariable("ip") String ip);
+
   /**
    * Get dns zones.
    *
@@ -246,11 +389,22 @@ public interface NameServerManagementApi {
 
 
   /**
-   * Get dns nodes.
+   * Get dns nodes. The dns nodes are sorted by name. If a {@code limit} is given, at most
+   * {@code limit} dns nodes are returned; the next page starts after the name of the last
+   * returned dns node, which must be sent as {@code after} parameter. Only the last page has less
+   * than {@code limit} dns nodes, so a client has read all dns nodes, if it receives less than
+   * {@code limit} dns nodes (if the number of dns nodes is a multiple of the limit, the last page
+   * is empty).
    *
    * @param zoneName the zone name
    * @param unknownFilter the unknown filter
    * @param query the query
+   * @param prefix the prefix of the dns node names (optional)
+   * @param limit the maximum number of dns nodes to return (optional)
+   * @param after the name of the last dns node of the previous page (optional)
+   * @param fields the json properties to return; if empty, all properties are returned; an
+   *     unknown property is rejected with {@code 400}
+   * @param raw specifies whether the raw active directory values of the records should be returned
    * @return the dns nodes
    */
   @Operation(
@@ -266,7 +420,7 @@ public interface NameServerManagementApi {
                   schema = @Schema(implementation = DnsNode.class)))),
       @ApiResponse(
           responseCode = "400",
-          description = "Bad request.",
+          description = "Bad request (invalid limit or fields).",
           content = @Content(
               schema = @Schema(
                   implementation = RestApiException.class))),
@@ -294,7 +448,83 @@ public interface NameServerManagementApi {
       @RequestParam(name = "filter", defaultValue = "NO_UNKNOWN") UnknownFilter unknownFilter,
 
       @Parameter(description = "A query.")
-      @RequestParam(name = "q", required = false) String query);
+      @RequestParam(name = "q", required = false) String query,
+
+      @Parameter(description = "The prefix of the dns node names.")
+      @RequestParam(name = "prefix", required = false) String prefix,
+
+      @Parameter(description = "The maximum number of dns nodes to return.")
+      @RequestParam(name = "limit", required = false)
+      @Min(1) @Max(ContinuationToken.MAX_LIMIT) Integer limit,
+
+      @Parameter(description = "The name of the last dns node of the previous page.")
+      @RequestParam(name = "after", required = false) String after,
+
+      @Parameter(description = "The json properties to return (comma separated), default is all.")
+      @RequestParam(name = "fields", required = false) List<String> fields,
+
+      @Parameter(description = "Specifies whether the raw active directory values of the records "
+          + "should be returned or not.")
+      @RequestParam(name = "raw", defaultValue = "false") Boolean raw);
+
+  /**
+   * Get the dns nodes of a zone that were added, changed or removed since the given serial
+   * (incremental zone transfer). Without a serial all dns nodes are returned as added.
+   * Zone serials are unsigned 32 bit numbers that wrap around. The server compares them with
+   * the serial number arithmetic of RFC 1982 (see
+   * {@link DnsNodeChanges#isSerialAfter(long, long)}), so a serial after a wrap-around is still
+   * newer.
+   * The path is not below {@code /api/dns/zones/{zoneName}}, so that it can't collide with a
+   * dns node named {@code changes}.
+   *
+   * @param zoneName the zone name
+   * @param sinceSerial the zone serial of the previous request (optional, unsigned 32 bit)
+   * @param unknownFilter the unknown filter
+   * @return the added, changed and removed dns nodes and the current zone serial
+   */
+  @Operation(
+      summary = "Get the dns nodes of a zone that were changed since a serial.",
+      operationId = "getDnsNodeChanges",
+      tags = {"name-server-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The added, changed and removed dns nodes and the current zone serial.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = DnsNodeChanges.class))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request (invalid serial).",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "404",
+          description = "Not found.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(value = "/api/dns/zone-changes/{zoneName}",
+      produces = {"application/json"},
+      method = RequestMethod.GET)
+  ResponseEntity<DnsNodeChanges> getDnsNodeChanges(
+      @Parameter(description = "The dns zone name.", required = true)
+      @PathVariable(value = "zoneName") String zoneName,
+
+      @Parameter(description = "The zone serial of the previous request (unsigned 32 bit).")
+      @RequestParam(name = "sinceSerial", required = false)
+      @Min(0) @Max(DnsNodeChanges.MAX_SERIAL) Long sinceSerial,
+
+      @Parameter(description = "The unknown filter.")
+      @RequestParam(name = "filter", defaultValue = "NO_UNKNOWN") UnknownFilter unknownFilter);
 
   /**
    * Save dns node.
@@ -348,12 +578,67 @@ public interface NameServerManagementApi {
       @Parameter(description = "The dns node to save.", required = true)
       @Valid @RequestBody DnsNode dnsNode);
 
+  /**
+   * Save dns nodes of a zone. Every dns node is processed on its own, so a failure of one doesn't
+   * stop the others. The status of a result is {@code 200} if the node was saved and {@code 204}
+   * if it was deleted due to no records. The dns nodes are validated one by one, too: an invalid
+   * dns node gets a result with status {@code 400} and the error, it doesn't reject the whole
+   * request.
+   *
+   * @param zoneName the dns zone name
+   * @param dnsNodes the dns nodes
+   * @return the result of every dns node
+   */
+  @Operation(
+      summary = "Save dns nodes.",
+      operationId = "saveDnsNodes",
+      tags = {"name-server-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The result of every dns node.",
+          content = @Content(
+              array = @ArraySchema(
+                  schema = @Schema(implementation = BulkItemResult.class)))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request (the body can't be read).",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "404",
+          description = "DNS zone not found.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(
+      value = "/api/dns/zones/{zoneName}/nodes/bulk",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.POST)
+  ResponseEntity<List<BulkItemResult>> saveDnsNodes(
+      @Parameter(description = "The dns zone name.", required = true)
+      @PathVariable("zoneName") String zoneName,
+
+      @Parameter(description = "The dns nodes to save.", required = true)
+      @RequestBody List<DnsNode> dnsNodes);
+
   /**
    * Get dns node.
    *
    * @param zoneName the dns zone name
    * @param nodeName the dns node name
    * @param unknownFilter the unknown filter
+   * @param ifNoneMatch the entity tags of the cached representations (optional)
+   * @param raw specifies whether the raw active directory values of the records should be returned
    * @return the dns node
    */
   @Operation(
@@ -364,9 +649,16 @@ public interface NameServerManagementApi {
       @ApiResponse(
           responseCode = "200",
           description = "The dns node.",
+          headers = @Header(
+              name = HttpHeaders.ETAG,
+              description = "The weak entity tag of the response.",
+              schema = @Schema(type = "string")),
           content = @Content(
               schema = @Schema(
                   implementation = DnsNode.class))),
+      @ApiResponse(
+          responseCode = "304",
+          description = "Not modified."),
       @ApiResponse(
           responseCode = "400",
           description = "Bad request.",
@@ -398,7 +690,14 @@ public interface NameServerManagementApi {
       @PathVariable("nodeName") String nodeName,
 
       @Parameter(description = "The unknown filter.")
-      @RequestParam(name = "filter", defaultValue = "NO_UNKNOWN") UnknownFilter unknownFilter);
+      @RequestParam(name = "filter", defaultValue = "NO_UNKNOWN") UnknownFilter unknownFilter,
+
+      @Parameter(description = "The entity tags of the cached representations.")
+      @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+
+      @Parameter(description = "Specifies whether the raw active directory values of the records "
+          + "should be returned or not.")
+      @RequestParam(name = "raw", defaultValue = "false") Boolean raw);
 
   /**
    * Delete dns node.
@@ -493,4 +792,59 @@ public interface NameServerManagementApi {
       @Parameter(description = "The dns node names.")
       @RequestParam(value = "nodeNames", required = false) List<String> nodeNames);
 
+  /**
+   * Delete the dns nodes of a zone that match the given filter. The dns nodes can be selected by
+   * name or by criteria like the name prefix, the record type, the age of the records or unknown
+   * records, so that many dns nodes can be deleted with one request. A filter without any
+   * criterion (like {@code {}}) is rejected with {@code 400}, it would delete all dns nodes of the
+   * zone (use {@link #deleteAllDnsNodes(String, List)} for that).
+   *
+   * @param zoneName the zone name
+   * @param filter the filter that selects the dns nodes to delete
+   * @return the number of deleted dns nodes
+   */
+  @Operation(
+      summary = "Delete the dns nodes that match a filter.",
+      operationId = "deleteDnsNodes",
+      tags = {"name-server-management-controller"})
+  @ApiResponses(value = {
+      @ApiResponse(
+          responseCode = "200",
+          description = "The number of deleted dns nodes.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = Integer.class))),
+      @ApiResponse(
+          responseCode = "400",
+          description = "Bad request (the filter has no criterion or is invalid).",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "404",
+          description = "DNS zone not found.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class))),
+      @ApiResponse(
+          responseCode = "500",
+          description = "Fatal server error.",
+          content = @Content(
+              schema = @Schema(
+                  implementation = RestApiException.class)))
+  })
+  @RequestMapping(
+      value = "/api/dns/zones/{zoneName}/nodes/batch-delete",
+      produces = {"application/json"},
+      consumes = {"application/json"},
+      method = RequestMethod.POST)
+  ResponseEntity<Integer> deleteDnsNodes(
+      @Parameter(description = "The dns zone name.", required = true)
+      @PathVariable("zoneName") String zoneName,
+
+      @Parameter(
+          description = "The filter that selects the dns nodes to delete.",
+          required = true)
+      @Valid @RequestBody DnsNodeFilter filter);
+
 }
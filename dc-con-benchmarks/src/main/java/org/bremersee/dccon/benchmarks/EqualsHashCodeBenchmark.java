@@ -0,0 +1,194 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.benchmarks;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bremersee.dccon.model.DnsNode;
+import org.bremersee.dccon.model.DomainGroup;
+import org.bremersee.dccon.model.DomainUser;
+import org.bremersee.dccon.model.EntityKey;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The equals and hash code benchmark measures the generated {@code equals} and {@code hashCode}
+ * methods of the model. The compared entities are equal but not the same instances, so that
+ * {@code equals} must compare all fields. The entity keys are created in the setup, so that their
+ * benchmarks measure the lookup and not the creation of the keys.
+ *
+ * @author Christian Bremer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EqualsHashCodeBenchmark {
+
+  /**
+   * The number of domain users.
+   */
+  @Param({"1000"})
+  public int userCount;
+
+  /**
+   * The number of members of the domain group.
+   */
+  @Param({"50000"})
+  public int memberCount;
+
+  /**
+   * The number of records of the dns node.
+   */
+  @Param({"1000"})
+  public int recordCount;
+
+  private List<DomainUser> users;
+
+  private List<DomainUser> otherUsers;
+
+  private DomainGroup group;
+
+  private DomainGroup otherGroup;
+
+  private EntityKey groupKey;
+
+  private EntityKey otherGroupKey;
+
+  private DnsNode node;
+
+  private DnsNode otherNode;
+
+  /**
+   * Creates the entities, their copies and the entity keys of the groups.
+   */
+  @Setup
+  public void setup() {
+    users = ModelFixtures.users(userCount);
+    otherUsers = ModelFixtures.users(userCount);
+    group = ModelFixtures.group(memberCount);
+    otherGroup = group.toBuilder().members(new ArrayList<>(group.getMembers())).build();
+    groupKey = group.toEntityKey();
+    otherGroupKey = otherGroup.toEntityKey();
+    node = ModelFixtures.node(recordCount);
+    otherNode = node.toBuilder().records(new LinkedHashSet<>(node.getRecords())).build();
+  }
+
+  /**
+   * Hash code of domain users.
+   *
+   * @return the hash code
+   */
+  @Benchmark
+  public int hashCodeOfUsers() {
+    return users.hashCode();
+  }
+
+  /**
+   * Equals of domain users.
+   *
+   * @return the result of equals
+   */
+  @Benchmark
+  public boolean equalsOfUsers() {
+    return users.equals(otherUsers);
+  }
+
+  /**
+   * Hash code of domain group.
+   *
+   * @return the hash code
+   */
+  @Benchmark
+  public int hashCodeOfGroup() {
+    return group.hashCode();
+  }
+
+  /**
+   * Equals of domain group.
+   *
+   * @return the result of equals
+   */
+  @Benchmark
+  public boolean equalsOfGroup() {
+    return group.equals(otherGroup);
+  }
+
+  /**
+   * Creation of the entity key of the domain group.
+   *
+   * @return the entity key
+   */
+  @Benchmark
+  public EntityKey toEntityKeyOfGroup() {
+    return group.toEntityKey();
+  }
+
+  /**
+   * Hash code of the entity key of the domain group.
+   *
+   * @return the hash code
+   */
+  @Benchmark
+  public int hashCodeOfGroupKey() {
+    return groupKey.hashCode();
+  }
+
+  /**
+   * Equals of the entity keys of the domain groups.
+   *
+   * @return the result of equals
+   */
+  @Benchmark
+  public boolean equalsOfGroupKey() {
+    return groupKey.equals(otherGroupKey);
+  }
+
+  /**
+   * Hash code of dns node.
+   *
+   * @return the hash code
+   */
+  @Benchmark
+  public int hashCodeOfNode() {
+    return node.hashCode();
+  }
+
+  /**
+   * Equals of dns node.
+   *
+   * @return the result of equals
+   */
+  @Benchmark
+  public boolean equalsOfNode() {
+    return node.equals(otherNode);
+  }
+
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bremersee.dccon.model.DnsNode;
+import org.bremersee.dccon.model.DomainGroup;
+import org.bremersee.dccon.model.DomainUser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The json benchmark measures the serialization and deserialization of the model with Jackson.
+ *
+ * @author Christian Bremer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonBenchmark {
+
+  private static final TypeReference<List<DomainUser>> USER_LIST_TYPE
+      = new TypeReference<List<DomainUser>>() {
+      };
+
+  /**
+   * The number of domain users.
+   */
+  @Param({"1000"})
+  public int userCount;
+
+  /**
+   * The number of members of the domain group.
+   */
+  @Param({"50000"})
+  public int memberCount;
+
+  /**
+   * The number of records of the dns node.
+   */
+  @Param({"1000"})
+  public int recordCount;
+
+  private ObjectWriter userListWriter;
+
+  private ObjectReader userListReader;
+
+  private ObjectWriter groupWriter;
+
+  private ObjectReader groupReader;
+
+  private ObjectWriter nodeWriter;
+
+  private ObjectReader nodeReader;
+
+  private List<DomainUser> users;
+
+  private DomainGroup group;
+
+  private DnsNode node;
+
+  private byte[] usersJson;
+
+  private byte[] groupJson;
+
+  private byte[] nodeJson;
+
+  /**
+   * Creates the object mapper and the entities.
+   *
+   * @throws IOException if the entities can't be serialized
+   */
+  @Setup
+  public void setup() throws IOException {
+    ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    userListWriter = objectMapper.writerFor(USER_LIST_TYPE);
+    userListReader = objectMapper.readerFor(USER_LIST_TYPE);
+    groupWriter = objectMapper.writerFor(DomainGroup.class);
+    groupReader = objectMapper.readerFor(DomainGroup.class);
+    nodeWriter = objectMapper.writerFor(DnsNode.class);
+    nodeReader = objectMapper.readerFor(DnsNode.class);
+
+    users = ModelFixtures.users(userCount);
+    group = ModelFixtures.group(memberCount);
+    node = ModelFixtures.node(recordCount);
+    usersJson = userListWriter.writeValueAsBytes(users);
+    groupJson = groupWriter.writeValueAsBytes(group);
+    nodeJson = nodeWriter.writeValueAsBytes(node);
+  }
+
+  /**
+   * Serialize domain users.
+   *
+   * @return the json
+   * @throws IOException if serialization fails
+   */
+  @Benchmark
+  public byte[] writeUsers() throws IOException {
+    return userListWriter.writeValueAsBytes(users);
+  }
+
+  /**
+   * Deserialize domain users.
+   *
+   * @return the domain users
+   * @throws IOException if deserialization fails
+   */
+  @Benchmark
+  public List<DomainUser> readUsers() throws IOException {
+    return userListReader.readValue(usersJson);
+  }
+
+  /**
+   * Serialize domain group.
+   *
+   * @return the json
+   * @throws IOException if serialization fails
+   */
+  @Benchmark
+  public byte[] writeGroup() throws IOException {
+    return groupWriter.writeValueAsBytes(group);
+  }
+
+  /**
+   * Deserialize domain group.
+   *
+   * @return the domain group
+   * @throws IOException if deserialization fails
+   */
+  @Benchmark
+  public DomainGroup readGroup() throws IOException {
+    return groupReader.readValue(groupJson);
+  }
+
+  /**
+   * Serialize dns node.
+   *
+   * @return the json
+   * @throws IOException if serialization fails
+   */
+  @Benchmark
+  public byte[] writeNode() throws IOException {
+    return nodeWriter.writeValueAsBytes(node);
+  }
+
+  /**
+   * Deserialize dns node.
+   *
+   * @return the dns node
+   * @throws IOException if deserialization fails
+   */
+  @Benchmark
+  public DnsNode readNode() throws IOException {
+    return nodeReader.readValue(nodeJson);
+  }
+
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.benchmarks;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.bremersee.dccon.model.DnsNode;
+import org.bremersee.dccon.model.DnsRecord;
+import org.bremersee.dccon.model.DomainGroup;
+import org.bremersee.dccon.model.DomainUser;
+import org.bremersee.dccon.model.Sid;
+
+/**
+ * Creates the model entities of the benchmarks. The entities are created with a fixed seed, so
+ * that every run uses the same data.
+ *
+ * @author Christian Bremer
+ */
+final class ModelFixtures {
+
+  private static final OffsetDateTime NOW = OffsetDateTime.of(
+      2020, 4, 1, 12, 0, 0, 0, ZoneOffset.UTC);
+
+  private static final List<String> RECORD_TYPES = Arrays.asList(
+      "A", "AAAA", "CNAME", "PTR", "MX", "SRV", "NS", "SOA", "TXT", "UNKNOWN");
+
+  private ModelFixtures() {
+  }
+
+  /**
+   * Creates domain users.
+   *
+   * @param count the number of domain users
+   * @return the domain users
+   */
+  static List<DomainUser> users(int count) {
+    Random random = new Random(count);
+    List<DomainUser> users = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      String userName = "user" + random.nextInt(count * 10) + "_" + i;
+      users.add(DomainUser.builder()
+          .distinguishedName("CN=" + userName + ",CN=Users,DC=example,DC=org")
+          .created(NOW.minusDays(random.nextInt(1000)))
+          .modified(NOW.minusMinutes(random.nextInt(100000)))
+          .sid(Sid.builder()
+              .value("S-1-5-21-1004336348-1177238915-682003330-" + (1000 + i))
+              .systemEntity(false)
+              .build())
+          .userName(userName)
+          .enabled(random.nextBoolean())
+          .firstName("First" + i)
+          .lastName("Last" + random.nextInt(count))
+          .displayName("First" + i + " Last" + i)
+          .email(userName + "@example.org")
+          .telephoneNumber("+49 123 " + i)
+          .mobile(random.nextBoolean() ? "+49 170 " + i : null)
+          .description("The user " + userName)
+          .homeDirectory("\\\\fileserver\\" + userName)
+          .unixHomeDirectory("/home/" + userName)
+          .loginShell("/bin/bash")
+          .lastLogon(NOW.minusHours(random.nextInt(1000)))
+          .logonCount(random.nextInt(5000))
+          .passwordLastSet(NOW.minusDays(random.nextInt(100)))
+          .groups(Arrays.asList("Domain Users", "group" + (i % 20)))
+          .build());
+    }
+    return users;
+  }
+
+  /**
+   * Creates a domain group.
+   *
+   * @param memberCount the number of members
+   * @return the domain group
+   */
+  static DomainGroup group(int memberCount) {
+    List<String> members = new ArrayList<>(memberCount);
+    for (int i = 0; i < memberCount; i++) {
+      members.add("user" + i);
+    }
+    return DomainGroup.builder()
+        .distinguishedName("CN=Staff,CN=Users,DC=example,DC=org")
+        .created(NOW.minusDays(365))
+        .modified(NOW)
+        .name("Staff")
+        .description("All members of the staff")
+        .sid(Sid.builder()
+            .value("S-1-5-21-1004336348-1177238915-682003330-1100")
+            .systemEntity(false)
+            .build())
+        .members(members)
+        .memberCount(memberCount)
+        .build();
+  }
+
+  /**
+   * Creates a dns node.
+   *
+   * @param recordCount the number of records
+   * @return the dns node
+   */
+  static DnsNode node(int recordCount) {
+    Set<DnsRecord> records = new LinkedHashSet<>(records(recordCount));
+    return DnsNode.builder()
+        .distinguishedName("DC=host,DC=example.org,CN=MicrosoftDNS,DC=DomainDnsZones")
+        .created(NOW.minusDays(10))
+        .modified(NOW)
+        .name("host")
+        .records(records)
+        .build();
+  }
+
+  /**
+   * Creates dns records, every tenth record has the type {@code UNKNOWN}.
+   *
+   * @param count the number of records
+   * @return the dns records
+   */
+  static List<DnsRecord> records(int count) {
+    Random random = new Random(count);
+    List<DnsRecord> records = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      records.add(DnsRecord.builder()
+          .recordType(RECORD_TYPES.get(i % RECORD_TYPES.size()))
+          .recordValue("10." + (i >> 16 & 0xFF) + "." + (i >> 8 & 0xFF) + "." + (i & 0xFF))
+          .version(5)
+          .serial(random.nextInt(10000))
+          .ttlSeconds(900)
+          .timeStamp(NOW.minusHours(random.nextInt(10000)))
+          .build());
+    }
+    return records;
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.benchmarks;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Comparator;
+
+/**
+ * A comparator that reads the properties with reflection and parses the sort order for every
+ * new instance. It is the baseline of the {@link SortOrderBenchmark}.
+ *
+ * @param <T> the type of the entities to sort
+ * @author Christian Bremer
+ */
+class ReflectiveComparator<T> implements Comparator<T> {
+
+  private final Method[] getters;
+
+  private final boolean[] desc;
+
+  /**
+   * Instantiates a new reflective comparator.
+   *
+   * @param type the type of the entities to sort
+   * @param sortOrder the sort order (like {@code lastName,desc|firstName})
+   */
+  ReflectiveComparator(Class<T> type, String sortOrder) {
+    String[] fields = sortOrder.split("\\|");
+    getters = new Method[fields.length];
+    desc = new boolean[fields.length];
+    for (int i = 0; i < fields.length; i++) {
+      String[] parts = fields[i].split(",");
+      String property = parts[0].trim();
+      String getter = "get" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+      try {
+        getters[i] = type.getMethod(getter);
+      } catch (NoSuchMethodException e) {
+        throw new IllegalArgumentException("Unknown property [" + property + "].", e);
+      }
+      desc[i] = parts.length > 1 && "desc".equalsIgnoreCase(parts[1].trim());
+    }
+  }
+
+  @Override
+  public int compare(T o1, T o2) {
+    for (int i = 0; i < getters.length; i++) {
+      int result = compareValues(invoke(getters[i], o1), invoke(getters[i], o2));
+      if (result != 0) {
+        return desc[i] ? -result : result;
+      }
+    }
+    return 0;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int compareValues(Object v1, Object v2) {
+    if (v1 == null) {
+      return v2 == null ? 0 : 1;
+    }
+    if (v2 == null) {
+      return -1;
+    }
+    if (v1 instanceof String && v2 instanceof String) {
+      return ((String) v1).compareToIgnoreCase((String) v2);
+    }
+    return ((Comparable) v1).compareTo(v2);
+  }
+
+  private static Object invoke(Method getter, Object entity) {
+    try {
+      return getter.invoke(entity);
+    } catch (IllegalAccessException | InvocationTargetException e) {
+      throw new IllegalStateException("Invoking [" + getter.getName() + "] failed.", e);
+    }
+  }
+
+}
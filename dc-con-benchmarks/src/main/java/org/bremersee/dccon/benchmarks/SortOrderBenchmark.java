@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bremersee.dccon.model.DomainUser;
+import org.bremersee.dccon.model.SortOrderCompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The sort order benchmark compares sorting with the comparators of the
+ * {@link SortOrderCompiler} against a comparator that uses reflection.
+ *
+ * @author Christian Bremer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortOrderBenchmark {
+
+  /**
+   * The number of domain users.
+   */
+  @Param({"10000"})
+  public int userCount;
+
+  /**
+   * The sort order.
+   */
+  @Param({DomainUser.DEFAULT_SORT_ORDER, "lastName,desc|firstName"})
+  public String sortOrder;
+
+  private List<DomainUser> users;
+
+  /**
+   * Creates the domain users.
+   */
+  @Setup
+  public void setup() {
+    users = ModelFixtures.users(userCount);
+  }
+
+  /**
+   * Sort with the compiled comparator.
+   *
+   * @return the sorted domain users
+   */
+  @Benchmark
+  public List<DomainUser> sortCompiled() {
+    List<DomainUser> sorted = new ArrayList<>(users);
+    sorted.sort(SortOrderCompiler.DOMAIN_USER.compile(sortOrder));
+    return sorted;
+  }
+
+  /**
+   * Sort with the reflective comparator.
+   *
+   * @return the sorted domain users
+   */
+  @Benchmark
+  public List<DomainUser> sortReflective() {
+    List<DomainUser> sorted = new ArrayList<>(users);
+    sorted.sort(new ReflectiveComparator<>(DomainUser.class, sortOrder));
+    return sorted;
+  }
+
+}
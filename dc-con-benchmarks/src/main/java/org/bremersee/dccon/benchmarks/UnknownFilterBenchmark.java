@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bremersee.dccon.model.DnsRecord;
+import org.bremersee.dccon.model.UnknownFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The unknown filter benchmark measures {@link UnknownFilter#matches(DnsRecord)} over a large
+ * set of dns records.
+ *
+ * @author Christian Bremer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnknownFilterBenchmark {
+
+  /**
+   * The number of dns records.
+   */
+  @Param({"100000"})
+  public int recordCount;
+
+  /**
+   * The unknown filter.
+   */
+  @Param({"NO_UNKNOWN", "UNKNOWN", "ALL"})
+  public UnknownFilter filter;
+
+  private List<DnsRecord> records;
+
+  /**
+   * Creates the dns records.
+   */
+  @Setup
+  public void setup() {
+    records = ModelFixtures.records(recordCount);
+  }
+
+  /**
+   * Counts the matching dns records.
+   *
+   * @return the number of matching dns records
+   */
+  @Benchmark
+  public int matches() {
+    int count = 0;
+    for (DnsRecord record : records) {
+      if (filter.matches(record)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
+import java.io.Serializable;
+import javax.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.bremersee.exception.model.RestApiException;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The result of one item of a bulk operation.
+ *
+ * @author Christian Bremer
+ */
+@Schema(description = "The result of one item of a bulk operation.")
+@Validated
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor
+public class BulkItemResult implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Schema(
+      description = "The position of the item in the request (starting with 0).",
+      required = true,
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty(value = "index", required = true)
+  @NotNull
+  private Integer index;
+
+  @Schema(description = "The name of the item.", accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("name")
+  private String name;
+
+  @Schema(
+      description = "The http status of the item (like 200 updated, 201 created or 400).",
+      required = true,
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty(value = "status", required = true)
+  @NotNull
+  private Integer status;
+
+  @Schema(description = "The error of a failed item.", accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("error")
+  private RestApiException error;
+
+  /**
+   * Instantiates a new bulk item result.
+   *
+   * @param index the position of the item in the request
+   * @param name the name of the item
+   * @param status the http status of the item
+   * @param error the error of a failed item
+   */
+  @SuppressWarnings("unused")
+  @Builder(toBuilder = true)
+  public BulkItemResult(Integer index, String name, Integer status, RestApiException error) {
+    this.index = index;
+    this.name = name;
+    this.status = status;
+    this.error = error;
+  }
+
+  /**
+   * Specifies whether the item was processed successfully or not.
+   *
+   * @return {@code true} if the status is a 2xx status, otherwise {@code false}
+   */
+  @JsonIgnore
+  public boolean isSuccessful() {
+    return status != null && status >= 200 && status < 300;
+  }
+
+}
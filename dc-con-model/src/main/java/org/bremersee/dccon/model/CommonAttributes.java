@@ -136,5 +136,13 @@ public abstract class CommonAttributes implements Serializable {
     this.modified = modified;
   }
 
-}
+  /**
+   * Creates the identity key of this entity, see {@link EntityKey}.
+   *
+   * @return the entity key
+   */
+  public EntityKey toEntityKey() {
+    return EntityKey.of(this);
+  }
 
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The continuation token of a paged (keyset) request. It contains the sort order of the request
+ * and the unique key (for example the user name) of the last returned entry. The encoded form is
+ * opaque to clients: they just pass the value of the response header {@link #HEADER_NAME} as
+ * {@code after} parameter to get the next page.
+ *
+ * <p>The unique key alone is only a valid keyset, if the entries are sorted by this key (see
+ * {@link #isSortedByKey(String, String)}). Requests with another sort order must be rejected, if
+ * they contain a continuation token.
+ *
+ * @author Christian Bremer
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class ContinuationToken implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The name of the response header that contains the continuation token of the next page.
+   */
+  public static final String HEADER_NAME = "X-Continuation-Token";
+
+  /**
+   * The maximum number of entries of one page.
+   */
+  public static final int MAX_LIMIT = 1000;
+
+  private static final char SEPARATOR = '\n';
+
+  private final String sort;
+
+  private final String lastKey;
+
+  /**
+   * Instantiates a new continuation token.
+   *
+   * @param sort the sort order of the request
+   * @param lastKey the unique key of the last returned entry
+   */
+  @Builder(toBuilder = true)
+  public ContinuationToken(String sort, String lastKey) {
+    this.sort = sort != null ? sort : "";
+    this.lastKey = lastKey != null ? lastKey : "";
+  }
+
+  /**
+   * Checks whether this token was created with the given sort order.
+   *
+   * @param sort the sort order of the current request
+   * @return {@code true} if the sort order is the same, otherwise {@code false}
+   */
+  public boolean hasSameSortOrder(String sort) {
+    return this.sort.equals(sort != null ? sort : "");
+  }
+
+  /**
+   * Checks whether the given sort order sorts by the given unique key first, so that the key of
+   * the last returned entry is a valid keyset. The direction and the other options of the field
+   * don't matter, because the key is unique.
+   *
+   * @param sort the sort order (like {@code userName,desc})
+   * @param key the name of the unique key property (like {@code userName})
+   * @return {@code true} if the first field of the sort order is the unique key, otherwise
+   *     {@code false}
+   */
+  public static boolean isSortedByKey(String sort, String key) {
+    if (sort == null || key == null) {
+      return false;
+    }
+    String field = sort.split("\\|", 2)[0];
+    return key.equals(field.split(",", 2)[0].trim());
+  }
+
+  /**
+   * Encodes this token into an url safe string.
+   *
+   * @return the encoded token
+   */
+  public String encode() {
+    String value = sort + SEPARATOR + lastKey;
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Decodes an encoded token.
+   *
+   * @param token the encoded token
+   * @return the continuation token
+   * @throws IllegalArgumentException if the token is not a valid continuation token
+   */
+  public static ContinuationToken decode(String token) {
+    if (token == null || token.isEmpty()) {
+      throw new IllegalArgumentException("Continuation token must be present.");
+    }
+    String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+    int index = value.indexOf(SEPARATOR);
+    if (index < 0) {
+      throw new IllegalArgumentException("Continuation token [" + token + "] is invalid.");
+    }
+    return new ContinuationToken(value.substring(0, index), value.substring(index + 1));
+  }
+
+}
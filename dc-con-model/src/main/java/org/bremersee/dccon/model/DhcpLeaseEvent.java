@@ -0,0 +1,78 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
+import java.io.Serializable;
+import javax.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The dhcp lease event.
+ *
+ * @author Christian Bremer
+ */
+@Schema(description = "An event of a dhcp lease.")
+@Validated
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor
+public class DhcpLeaseEvent implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Schema(
+      description = "The event type.",
+      required = true,
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty(value = "type", required = true)
+  @NotNull
+  private DhcpLeaseEventType type;
+
+  @Schema(
+      description = "The dhcp lease.",
+      required = true,
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty(value = "lease", required = true)
+  @NotNull
+  private DhcpLease lease;
+
+  /**
+   * Instantiates a new dhcp lease event.
+   *
+   * @param type the event type
+   * @param lease the dhcp lease
+   */
+  @SuppressWarnings("unused")
+  @Builder(toBuilder = true)
+  public DhcpLeaseEvent(DhcpLeaseEventType type, DhcpLease lease) {
+    this.type = type;
+    this.lease = lease;
+  }
+}
@@ -16,7 +16,10 @@
 
 package org.bremersee.dccon.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.time.OffsetDateTime;
@@ -29,12 +32,14 @@ import lombok.ToString;
 import org.springframework.validation.annotation.Validated;
 
 /**
- * DNS node.
+ * DNS node. The json contains only the properties that are not {@code null}, so the records are
+ * missing, if they are not loaded (see {@link FieldProjection}).
  *
  * @author Christian Bremer
  */
 @Schema(description = "DNS node")
 @Validated
+@JsonInclude(Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown = true)
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
@@ -46,6 +51,7 @@ public class DnsNode extends CommonAttributes {
   @JsonProperty(value = "name", required = true)
   private String name;
 
+  @Schema(description = "The name server records.")
   @JsonProperty("records")
   private Set<DnsRecord> records;
 
@@ -96,7 +102,7 @@ public class DnsNode extends CommonAttributes {
    *
    * @return the name server records
    */
-  @Schema(description = "The name server records.")
+  @JsonIgnore // the json uses the field, so that records that are not loaded are missing
   public Set<DnsRecord> getRecords() {
     if (records == null) {
       records = new LinkedHashSet<>();
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The dns nodes of a zone that were added, changed or removed since a serial.
+ *
+ * <p>The serial of a zone is an unsigned 32 bit number ({@code 0} to {@link #MAX_SERIAL}) that
+ * wraps around, so it is a {@code Long} here. Serials must be compared with the serial number
+ * arithmetic of RFC 1982 (see {@link #isSerialAfter(long, long)}) and not with {@code <}: after
+ * a wrap-around a small serial may be newer than a big one.
+ *
+ * @author Christian Bremer
+ */
+@Schema(description = "The dns nodes of a zone that were changed since a serial.")
+@Validated
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor
+public class DnsNodeChanges implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  /**
+   * The maximum serial of a zone (unsigned 32 bit).
+   */
+  public static final long MAX_SERIAL = 0xFFFF_FFFFL;
+
+  @Schema(description = "The added dns nodes.", accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("added")
+  private List<DnsNode> added;
+
+  @Schema(description = "The changed dns nodes.", accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("changed")
+  private List<DnsNode> changed;
+
+  @Schema(
+      description = "The tombstones of the removed dns nodes.",
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("removed")
+  private List<Tombstone> removed;
+
+  @Schema(
+      description = "The current serial of the zone (unsigned 32 bit, RFC 1982).",
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("serial")
+  private Long serial;
+
+  /**
+   * Instantiates new dns node changes.
+   *
+   * @param added the added dns nodes
+   * @param changed the changed dns nodes
+   * @param removed the tombstones of the removed dns nodes
+   * @param serial the current serial of the zone
+   */
+  @SuppressWarnings("unused")
+  @Builder(toBuilder = true)
+  public DnsNodeChanges(
+      List<DnsNode> added,
+      List<DnsNode> changed,
+      List<Tombstone> removed,
+      Long serial) {
+    this.added = added;
+    this.changed = changed;
+    this.removed = removed;
+    this.serial = serial;
+  }
+
+  /**
+   * The added dns nodes.
+   *
+   * @return the added dns nodes
+   */
+  public List<DnsNode> getAdded() {
+    if (added == null) {
+      added = new ArrayList<>();
+    }
+    return added;
+  }
+
+  /**
+   * The changed dns nodes.
+   *
+   * @return the changed dns nodes
+   */
+  public List<DnsNode> getChanged() {
+    if (changed == null) {
+      changed = new ArrayList<>();
+    }
+    return changed;
+  }
+
+  /**
+   * The tombstones of the removed dns nodes.
+   *
+   * @return the tombstones of the removed dns nodes
+   */
+  public List<Tombstone> getRemoved() {
+    if (removed == null) {
+      removed = new ArrayList<>();
+    }
+    return removed;
+  }
+
+  /**
+   * Determines whether the given serial is after (newer than) the other serial by the serial
+   * number arithmetic of RFC 1982 with 32 bits: the serial is after the other one, if it is
+   * ahead by less than 2^31 modulo 2^32. So {@code 1} is after {@code 4294967295}. If the
+   * serials are exactly 2^31 apart, the comparison is undefined and {@code false} is returned.
+   *
+   * @param serial the serial
+   * @param other the other serial
+   * @return {@code true} if the serial is after the other serial, otherwise {@code false}
+   */
+  public static boolean isSerialAfter(long serial, long other) {
+    long distance = (serial - other) & MAX_SERIAL;
+    return distance != 0 && distance < 0x8000_0000L;
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
+import java.io.Serializable;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The progress of deleting dns nodes.
+ *
+ * @author Christian Bremer
+ */
+@Schema(description = "The progress of deleting dns nodes.")
+@Validated
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor
+public class DnsNodeDeleteProgress implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Schema(description = "The name of the deleted dns node.", accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("nodeName")
+  private String nodeName;
+
+  @Schema(
+      description = "The number of dns nodes that are deleted so far.",
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("deleted")
+  private Integer deleted;
+
+  @Schema(
+      description = "The number of dns nodes that will be deleted.",
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("total")
+  private Integer total;
+
+  /**
+   * Instantiates a new dns node delete progress.
+   *
+   * @param nodeName the name of the deleted dns node
+   * @param deleted the number of dns nodes that are deleted so far
+   * @param total the number of dns nodes that will be deleted
+   */
+  @SuppressWarnings("unused")
+  @Builder(toBuilder = true)
+  public DnsNodeDeleteProgress(String nodeName, Integer deleted, Integer total) {
+    this.nodeName = nodeName;
+    this.deleted = deleted;
+    this.total = total;
+  }
+}
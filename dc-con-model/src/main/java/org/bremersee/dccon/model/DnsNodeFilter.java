@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.AssertTrue;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The dns node filter selects the dns nodes of a zone either by an explicit list of names or by
+ * the other criteria. All given criteria must match.
+ *
+ * <p>A filter without any criterion would match every dns node of the zone, so it is invalid
+ * (see {@link #isNotEmpty()}). The unknown filter {@link UnknownFilter#UNKNOWN} is a criterion
+ * (it selects the dns nodes with unknown records), {@link UnknownFilter#ALL} and
+ * {@link UnknownFilter#NO_UNKNOWN} are not, they only restrict the records of the other criteria.
+ *
+ * <p>The record type is a string, so that a filter can select record types, that are not
+ * declared in {@link DnsRecordType}, too. It is matched case insensitive, see
+ * {@link #matchesRecordType(DnsRecord)}.
+ *
+ * @author Christian Bremer
+ */
+@Schema(description = "The dns node filter.")
+@Validated
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor
+public class DnsNodeFilter implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Schema(description = "The names of the dns nodes.")
+  @JsonProperty("nodeNames")
+  private List<String> nodeNames;
+
+  @Schema(description = "The prefix of the dns node names.")
+  @JsonProperty("prefix")
+  private String prefix;
+
+  @Schema(description = "The type of the dns records (case insensitive).")
+  @JsonProperty("recordType")
+  private String recordType;
+
+  @Schema(description = "Selects dns nodes with records that are older than this time stamp.")
+  @JsonProperty("timeStampBefore")
+  private OffsetDateTime timeStampBefore;
+
+  @Schema(description = "The unknown filter.")
+  @JsonProperty("unknownFilter")
+  private UnknownFilter unknownFilter;
+
+  /**
+   * Instantiates a new dns node filter.
+   *
+   * @param nodeNames the names of the dns nodes
+   * @param prefix the prefix of the dns node names
+   * @param recordType the type of the dns records
+   * @param timeStampBefore selects records that are older than this time stamp
+   * @param unknownFilter the unknown filter
+   */
+  @SuppressWarnings("unused")
+  @Builder(toBuilder = true)
+  public DnsNodeFilter(
+      List<String> nodeNames,
+      String prefix,
+      String recordType,
+      OffsetDateTime timeStampBefore,
+      UnknownFilter unknownFilter) {
+    this.nodeNames = nodeNames;
+    this.prefix = prefix;
+    this.recordType = recordType;
+    this.timeStampBefore = timeStampBefore;
+    this.unknownFilter = unknownFilter;
+  }
+
+  /**
+   * The names of the dns nodes.
+   *
+   * @return the names of the dns nodes
+   */
+  public List<String> getNodeNames() {
+    if (nodeNames == null) {
+      nodeNames = new ArrayList<>();
+    }
+    return nodeNames;
+  }
+
+  /**
+   * Specifies whether this filter has at least one criterion (node names, prefix, record type,
+   * time stamp or the unknown filter {@link UnknownFilter#UNKNOWN}).
+   *
+   * @return {@code true} if this filter has at least one criterion, otherwise {@code false}
+   */
+  @JsonIgnore
+  @AssertTrue(message = "The filter must have at least one criterion.")
+  public boolean isNotEmpty() {
+    return (nodeNames != null && !nodeNames.isEmpty())
+        || (prefix != null && !prefix.trim().isEmpty())
+        || (recordType != null && !recordType.trim().isEmpty())
+        || timeStampBefore != null
+        || unknownFilter == UnknownFilter.UNKNOWN;
+  }
+
+  /**
+   * Determines whether the given dns record has the record type of this filter. The known types
+   * are compared with {@link DnsRecordType#fromValue(String)}, the others case insensitive.
+   *
+   * @param dnsRecord the dns record
+   * @return {@code true} if this filter has no record type or the dns record has the record type
+   *     of this filter, otherwise {@code false}
+   */
+  public boolean matchesRecordType(DnsRecord dnsRecord) {
+    if (recordType == null || recordType.trim().isEmpty()) {
+      return true;
+    }
+    if (dnsRecord == null || dnsRecord.getRecordType() == null) {
+      return false;
+    }
+    String value = recordType.trim();
+    DnsRecordType type = DnsRecordType.fromValue(value);
+    return type != null
+        ? type == dnsRecord.getDnsRecordType()
+        : value.equalsIgnoreCase(dnsRecord.getRecordType().trim());
+  }
+
+}
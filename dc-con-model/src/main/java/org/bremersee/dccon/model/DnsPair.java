@@ -21,7 +21,6 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
 import java.io.Serializable;
-import javax.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -31,7 +30,8 @@ import lombok.ToString;
 import org.springframework.validation.annotation.Validated;
 
 /**
- * The pair of zone name and dns node.
+ * The pair of zone name and dns node. The result of a query, that doesn't resolve to a dns node,
+ * has no zone name and no dns node, the flag {@code nodeExists} is {@code false}.
  *
  * @author Christian Bremer
  */
@@ -48,19 +48,15 @@ public class DnsPair implements Serializable {
   private static final long serialVersionUID = 1L;
 
   @Schema(
-      description = "The zone name of the dns node.",
-      required = true,
+      description = "The zone name of the dns node (missing, if the dns node doesn't exist).",
       accessMode = AccessMode.READ_ONLY)
-  @JsonProperty(value = "zoneName", required = true)
-  @NotNull
+  @JsonProperty("zoneName")
   private String zoneName;
 
   @Schema(
-      description = "A dns node.",
-      required = true,
+      description = "A dns node (missing, if the dns node doesn't exist).",
       accessMode = AccessMode.READ_ONLY)
-  @JsonProperty(value = "node", required = true)
-  @NotNull
+  @JsonProperty("node")
   private DnsNode node;
 
   @Schema(
@@ -69,6 +65,12 @@ public class DnsPair implements Serializable {
   @JsonProperty(value = "nodeExists")
   private Boolean nodeExists;
 
+  @Schema(
+      description = "The query (host name, IP or MAC address) that found the dns node.",
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty(value = "query")
+  private String query;
+
   /**
    * Instantiates a new dns pair.
    *
@@ -77,10 +79,35 @@ public class DnsPair implements Serializable {
    * @param nodeExists {@code true} if the dns node exists, otherwise {@code false}
    */
   @SuppressWarnings("unused")
-  @Builder(toBuilder = true)
   public DnsPair(String zoneName, DnsNode node, Boolean nodeExists) {
+    this(zoneName, node, nodeExists, null);
+  }
+
+  /**
+   * Instantiates a new dns pair.
+   *
+   * @param zoneName the zone name
+   * @param node the node
+   * @param nodeExists {@code true} if the dns node exists, otherwise {@code false}
+   * @param query the query that found the dns node
+   */
+  @SuppressWarnings("unused")
+  @Builder(toBuilder = true)
+  public DnsPair(String zoneName, DnsNode node, Boolean nodeExists, String query) {
     this.zoneName = zoneName;
     this.node = node;
     this.nodeExists = nodeExists;
+    this.query = query;
+  }
+
+  /**
+   * Creates the dns pair of a query, that doesn't resolve to a dns node.
+   *
+   * @param query the query
+   * @return the dns pair with the query and {@code nodeExists = false}
+   */
+  public static DnsPair notFound(String query) {
+    return new DnsPair(null, null, false, query);
   }
+
 }
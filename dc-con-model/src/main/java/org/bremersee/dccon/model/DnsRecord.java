@@ -16,12 +16,16 @@
 
 package org.bremersee.dccon.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
 import java.io.Serializable;
 import java.time.OffsetDateTime;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -41,7 +45,7 @@ import org.springframework.validation.annotation.Validated;
 @Getter
 @Setter
 @EqualsAndHashCode(of = {"recordType", "recordValue"})
-@ToString(exclude = {"recordRawValue"})
+@ToString(exclude = {"recordRawValue", "dnsRecordType", "dnsRecordTypeResolved"})
 @NoArgsConstructor
 public class DnsRecord implements Serializable, Comparable<DnsRecord> {
 
@@ -64,6 +68,7 @@ public class DnsRecord implements Serializable, Comparable<DnsRecord> {
       description = "The record raw active directory value.",
       accessMode = AccessMode.READ_ONLY)
   @JsonProperty("recordRawValue")
+  @JsonInclude(Include.NON_NULL)
   private byte[] recordRawValue;
 
   @Schema(description = "The correlated record value.", accessMode = AccessMode.READ_ONLY)
@@ -90,6 +95,16 @@ public class DnsRecord implements Serializable, Comparable<DnsRecord> {
   @JsonProperty("dhcpLease")
   private DhcpLease dhcpLease;
 
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @JsonIgnore
+  private transient DnsRecordType dnsRecordType;
+
+  @Getter(AccessLevel.NONE)
+  @Setter(AccessLevel.NONE)
+  @JsonIgnore
+  private transient boolean dnsRecordTypeResolved;
+
   /**
    * Instantiates a new Dns record.
    *
@@ -123,19 +138,53 @@ public class DnsRecord implements Serializable, Comparable<DnsRecord> {
     return recordRawValue != null && recordRawValue.length > 0;
   }
 
+  /**
+   * Sets the record type.
+   *
+   * @param recordType the record type
+   */
+  public void setRecordType(String recordType) {
+    this.recordType = recordType;
+    this.dnsRecordType = null;
+    this.dnsRecordTypeResolved = false;
+  }
+
+  /**
+   * Gets the dns record type of {@link #getRecordType()}. The result of the lookup is cached,
+   * also if the record type is unknown (like {@code CAA}), so that sorting and filtering don't
+   * parse the record type again.
+   *
+   * @return the dns record type or {@code null}, if the record type is not a known type
+   */
+  @JsonIgnore
+  public DnsRecordType getDnsRecordType() {
+    if (!dnsRecordTypeResolved) {
+      dnsRecordType = DnsRecordType.fromValue(recordType);
+      dnsRecordTypeResolved = true;
+    }
+    return dnsRecordType;
+  }
+
   @Override
   public int compareTo(DnsRecord o) {
     if (o == null) {
       return -1;
     }
-    String s1 = getRecordType() != null ? getRecordType() : "";
-    String s2 = o.getRecordType() != null ? o.getRecordType() : "";
-    int result = s1.compareToIgnoreCase(s2);
+    int result;
+    DnsRecordType t1 = getDnsRecordType();
+    DnsRecordType t2 = o.getDnsRecordType();
+    if (t1 != null && t2 != null) {
+      result = t1.compareTo(t2);
+    } else {
+      String s1 = getRecordType() != null ? getRecordType() : "";
+      String s2 = o.getRecordType() != null ? o.getRecordType() : "";
+      result = s1.compareToIgnoreCase(s2);
+    }
     if (result != 0) {
       return result;
     }
-    s1 = getRecordValue() != null ? getRecordValue() : "";
-    s2 = o.getRecordValue() != null ? o.getRecordValue() : "";
+    String s1 = getRecordValue() != null ? getRecordValue() : "";
+    String s2 = o.getRecordValue() != null ? o.getRecordValue() : "";
     return s1.compareToIgnoreCase(s2);
   }
 }
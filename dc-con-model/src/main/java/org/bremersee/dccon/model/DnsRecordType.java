@@ -0,0 +1,116 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The dns record types. The constants are declared in alphabetical order, so that comparing the
+ * ordinals gives the same order as comparing the names.
+ *
+ * <p>The wire format of {@link DnsRecord#getRecordType()} is still a string, because the name
+ * server may return other types, too. Use {@link #fromValue(String)} to get the enum constant.
+ *
+ * @author Christian Bremer
+ */
+public enum DnsRecordType {
+
+  /**
+   * The address record (IPv4).
+   */
+  A,
+
+  /**
+   * The address record (IPv6).
+   */
+  AAAA,
+
+  /**
+   * The canonical name record.
+   */
+  CNAME,
+
+  /**
+   * The mail exchange record.
+   */
+  MX,
+
+  /**
+   * The name server record.
+   */
+  NS,
+
+  /**
+   * The pointer record.
+   */
+  PTR,
+
+  /**
+   * The start of authority record.
+   */
+  SOA,
+
+  /**
+   * The service locator record.
+   */
+  SRV,
+
+  /**
+   * The text record.
+   */
+  TXT,
+
+  /**
+   * The unknown record.
+   */
+  UNKNOWN;
+
+  private static final int MAX_CACHE_SIZE = 256;
+
+  private static final Map<String, DnsRecordType> CACHE = new ConcurrentHashMap<>();
+
+  static {
+    for (DnsRecordType type : values()) {
+      CACHE.put(type.name(), type);
+      CACHE.put(type.name().toLowerCase(Locale.ROOT), type);
+    }
+  }
+
+  /**
+   * Gets the dns record type of the given value (case insensitive). The parsed values are
+   * cached.
+   *
+   * @param value the value
+   * @return the dns record type or {@code null}, if the value is not a known type
+   */
+  public static DnsRecordType fromValue(String value) {
+    if (value == null) {
+      return null;
+    }
+    DnsRecordType type = CACHE.get(value);
+    if (type == null) {
+      type = CACHE.get(value.toUpperCase(Locale.ROOT));
+      if (type != null && CACHE.size() < MAX_CACHE_SIZE) {
+        CACHE.put(value, type);
+      }
+    }
+    return type;
+  }
+
+}
@@ -16,7 +16,10 @@
 
 package org.bremersee.dccon.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
@@ -32,12 +35,18 @@ import lombok.ToString;
 import org.springframework.validation.annotation.Validated;
 
 /**
- * Domain group.
+ * Domain group. The json contains only the properties that are not {@code null}, so the members
+ * are missing, if they are not loaded (see {@link FieldProjection}).
+ *
+ * <p>The member count is authoritative: it is the number of members also if the members are
+ * not loaded, whereas {@link #getMembers()} returns an empty list then (and creates it, so that
+ * the json contains an empty array afterwards).
  *
  * @author Christian Bremer
  */
 @Schema(description = "Domain group.")
 @Validated
+@JsonInclude(Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown = true)
 @EqualsAndHashCode(callSuper = true)
 @ToString(callSuper = true)
@@ -61,9 +70,13 @@ public class DomainGroup extends CommonAttributes implements Serializable {
   @JsonProperty("sid")
   private Sid sid;
 
+  @Schema(description = "The members of the domain group, missing if they are not loaded.")
   @JsonProperty("members")
   private List<String> members = null;
 
+  @JsonProperty("memberCount")
+  private Integer memberCount;
+
   /**
    * Instantiates a new Domain group.
    *
@@ -76,7 +89,6 @@ public class DomainGroup extends CommonAttributes implements Serializable {
    * @param members the members
    */
   @SuppressWarnings("unused")
-  @Builder(toBuilder = true)
   public DomainGroup(
       String distinguishedName,
       OffsetDateTime created,
@@ -86,11 +98,39 @@ public class DomainGroup extends CommonAttributes implements Serializable {
       String description,
       List<String> members) {
 
+    this(distinguishedName, created, modified, sid, name, description, members, null);
+  }
+
+  /**
+   * Instantiates a new Domain group.
+   *
+   * @param distinguishedName the distinguished name
+   * @param created the created
+   * @param modified the modified
+   * @param sid the windows/samba SID
+   * @param name the name
+   * @param description the description
+   * @param members the members
+   * @param memberCount the number of members
+   */
+  @SuppressWarnings("unused")
+  @Builder(toBuilder = true)
+  public DomainGroup(
+      String distinguishedName,
+      OffsetDateTime created,
+      OffsetDateTime modified,
+      Sid sid,
+      String name,
+      String description,
+      List<String> members,
+      Integer memberCount) {
+
     super(distinguishedName, created, modified);
     setSid(sid);
     setName(name);
     setDescription(description);
     setMembers(members);
+    setMemberCount(memberCount);
   }
 
   /**
@@ -151,11 +191,12 @@ public class DomainGroup extends CommonAttributes implements Serializable {
   }
 
   /**
-   * The members of the domain group.
+   * The members of the domain group. If the members are not loaded, the list is empty; use
+   * {@link #getMemberCount()} for the number of members.
    *
    * @return members members
    */
-  @Schema(description = "The members of the domain group.")
+  @JsonIgnore // the json uses the field, so that members that are not loaded are missing
   public List<String> getMembers() {
     if (members == null) {
       members = new ArrayList<>();
@@ -172,5 +213,27 @@ public class DomainGroup extends CommonAttributes implements Serializable {
     this.members = members;
   }
 
+  /**
+   * The number of members of the domain group. It is authoritative and also present, if the
+   * members are not returned.
+   *
+   * @return the number of members
+   */
+  @Schema(
+      description = "The number of members, also if the members are not returned.",
+      accessMode = AccessMode.READ_ONLY)
+  public Integer getMemberCount() {
+    return memberCount;
+  }
+
+  /**
+   * Sets the number of members.
+   *
+   * @param memberCount the number of members
+   */
+  public void setMemberCount(Integer memberCount) {
+    this.memberCount = memberCount;
+  }
+
 }
 
@@ -16,7 +16,10 @@
 
 package org.bremersee.dccon.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
@@ -33,12 +36,15 @@ import lombok.ToString;
 import org.springframework.validation.annotation.Validated;
 
 /**
- * Domain user.
+ * Domain user. The json contains only the properties that are not {@code null}, so the
+ * properties that are not loaded (like the groups of a projection, see {@link FieldProjection})
+ * are missing instead of being empty.
  *
  * @author Christian Bremer
  */
 @Schema(description = "Domain user.")
 @Validated
+@JsonInclude(Include.NON_NULL)
 @JsonIgnoreProperties(ignoreUnknown = true)
 @Getter
 @Setter
@@ -191,6 +197,7 @@ public class DomainUser extends CommonAttributes {
    *
    * @return {@code true} is the user is enabled, otherwise {@code false}
    */
+  @JsonIgnore // the json uses the field, so that a flag that is not loaded is missing
   public Boolean getEnabled() {
     return Boolean.TRUE.equals(enabled);
   }
@@ -209,6 +216,7 @@ public class DomainUser extends CommonAttributes {
    *
    * @return groups groups
    */
+  @JsonIgnore // the json uses the field, so that groups that are not loaded are missing
   public List<String> getGroups() {
     if (groups == null) {
       groups = new ArrayList<>();
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The domain users that were created, modified or deleted since a watermark.
+ *
+ * @author Christian Bremer
+ */
+@Schema(description = "The domain users that were changed since a watermark.")
+@Validated
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor
+public class DomainUserChanges implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Schema(
+      description = "The created or modified domain users.",
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("changed")
+  private List<DomainUser> changed;
+
+  @Schema(
+      description = "The tombstones of the deleted domain users.",
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("deleted")
+  private List<Tombstone> deleted;
+
+  @Schema(
+      description = "The watermark to use for the next request.",
+      required = true,
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty(value = "watermark", required = true)
+  @NotNull
+  private String watermark;
+
+  /**
+   * Instantiates new domain user changes.
+   *
+   * @param changed the created or modified domain users
+   * @param deleted the tombstones of the deleted domain users
+   * @param watermark the watermark to use for the next request
+   */
+  @SuppressWarnings("unused")
+  @Builder(toBuilder = true)
+  public DomainUserChanges(List<DomainUser> changed, List<Tombstone> deleted, String watermark) {
+    this.changed = changed;
+    this.deleted = deleted;
+    this.watermark = watermark;
+  }
+
+  /**
+   * The created or modified domain users.
+   *
+   * @return the created or modified domain users
+   */
+  public List<DomainUser> getChanged() {
+    if (changed == null) {
+      changed = new ArrayList<>();
+    }
+    return changed;
+  }
+
+  /**
+   * The tombstones of the deleted domain users.
+   *
+   * @return the tombstones of the deleted domain users
+   */
+  public List<Tombstone> getDeleted() {
+    if (deleted == null) {
+      deleted = new ArrayList<>();
+    }
+    return deleted;
+  }
+
+}
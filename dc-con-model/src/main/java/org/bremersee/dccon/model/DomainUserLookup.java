@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
+import java.io.Serializable;
+import javax.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The result of the lookup of one user name: either the domain user or the not found flag.
+ *
+ * @author Christian Bremer
+ */
+@Schema(description = "The result of the lookup of one user name.")
+@Validated
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor
+public class DomainUserLookup implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Schema(
+      description = "The requested user name.",
+      required = true,
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty(value = "userName", required = true)
+  @NotNull
+  private String userName;
+
+  @Schema(description = "The domain user.", accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("user")
+  private DomainUser user;
+
+  @Schema(
+      description = "Specifies whether the user name has no domain user.",
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("notFound")
+  private Boolean notFound = Boolean.FALSE;
+
+  /**
+   * Instantiates a new domain user lookup.
+   *
+   * @param userName the requested user name
+   * @param user the domain user
+   * @param notFound specifies whether the user name has no domain user; if it is {@code null},
+   *     it is {@code true} without a domain user
+   */
+  @SuppressWarnings("unused")
+  @Builder(toBuilder = true)
+  public DomainUserLookup(String userName, DomainUser user, Boolean notFound) {
+    this.userName = userName;
+    this.user = user;
+    this.notFound = notFound != null ? notFound : user == null;
+  }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * The identity key of a {@link CommonAttributes} entity or of its read model (like {@link
+ * ImmutableDomainUser}). It consists of the logical type of the entity (the {@code _type} name of
+ * the json representation, like {@code DomainUser}), its identity (the distinguished name in
+ * lower case, because distinguished names are case insensitive) and the version (the last
+ * modification date). The distinguished name is always loaded, so the key doesn't depend on the
+ * requested fields. The hash code is computed once, so the key can be used in hash sets and as
+ * cache key in constant time, whereas the {@code equals} and {@code hashCode} of the entities
+ * still compare all fields (like the members of a group).
+ *
+ * @author Christian Bremer
+ */
+public final class EntityKey implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String type;
+
+  private final String identity;
+
+  private final Instant modified;
+
+  private final int hashCode;
+
+  private EntityKey(String type, String identity, Instant modified) {
+    this.type = type;
+    this.identity = identity;
+    this.modified = modified;
+    this.hashCode = Objects.hash(type, identity, modified);
+  }
+
+  /**
+   * Creates the key of the given entity.
+   *
+   * @param entity the entity
+   * @return the entity key
+   */
+  public static EntityKey of(CommonAttributes entity) {
+    Objects.requireNonNull(entity, "Entity must be present.");
+    return of(typeName(entity), entity.getDistinguishedName(), entity.getModified());
+  }
+
+  /**
+   * Creates the key of an entity.
+   *
+   * @param type the logical type of the entity (the {@code _type} name, like {@code DomainUser})
+   * @param distinguishedName the distinguished name of the entity
+   * @param modified the last modification date of the entity
+   * @return the entity key
+   */
+  public static EntityKey of(String type, String distinguishedName, OffsetDateTime modified) {
+    Objects.requireNonNull(type, "Type must be present.");
+    return new EntityKey(
+        type,
+        distinguishedName != null ? distinguishedName.toLowerCase(Locale.ROOT) : null,
+        modified != null ? modified.toInstant() : null);
+  }
+
+  private static String typeName(CommonAttributes entity) {
+    if (entity instanceof DomainUser) {
+      return "DomainUser";
+    }
+    if (entity instanceof DomainGroup) {
+      return "DomainGroup";
+    }
+    if (entity instanceof DnsNode) {
+      return "DnsNode";
+    }
+    if (entity instanceof DnsZone) {
+      return "DnsZone";
+    }
+    return entity.getClass().getSimpleName();
+  }
+
+  /**
+   * Gets the logical type of the entity (the {@code _type} name).
+   *
+   * @return the type of the entity
+   */
+  public String getType() {
+    return type;
+  }
+
+  /**
+   * Gets the identity of the entity (the distinguished name in lower case).
+   *
+   * @return the identity of the entity
+   */
+  public String getIdentity() {
+    return identity;
+  }
+
+  /**
+   * Gets the last modification date of the entity.
+   *
+   * @return the last modification date
+   */
+  public Instant getModified() {
+    return modified;
+  }
+
+  /**
+   * Checks whether the given key belongs to the same entity, regardless of the version.
+   *
+   * @param other the other key
+   * @return {@code true} if both keys belong to the same entity, otherwise {@code false}
+   */
+  public boolean isSameEntity(EntityKey other) {
+    return other != null
+        && type.equals(other.type)
+        && Objects.equals(identity, other.identity);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof EntityKey)) {
+      return false;
+    }
+    EntityKey other = (EntityKey) o;
+    return hashCode == other.hashCode
+        && isSameEntity(other)
+        && Objects.equals(modified, other.modified);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  @Override
+  public String toString() {
+    return "EntityKey{type=" + type + ", identity=" + identity + ", modified=" + modified + '}';
+  }
+
+}
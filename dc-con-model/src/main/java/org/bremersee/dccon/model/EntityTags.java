@@ -0,0 +1,144 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Creates weak entity tags (the value of the {@code ETag} header) from the distinguished name and
+ * the last modification date of the {@link CommonAttributes}.
+ *
+ * <p>Some attributes are changed without changing the modification date ({@code whenChanged}):
+ * the back-linked groups of a domain user ({@code memberOf}) and the non-replicated logon
+ * attributes ({@code lastLogon} and {@code logonCount}). They are added to the hash, too. The
+ * tags are weak, because they are computed from these attributes and not from the bytes of the
+ * representation. Variants, that change the representation of the same entities (like the
+ * requested fields or the sort order), must be added by the caller.
+ *
+ * @author Christian Bremer
+ */
+public final class EntityTags {
+
+  private static final byte SEPARATOR = '\n';
+
+  private EntityTags() {
+  }
+
+  /**
+   * Creates the entity tag of one entity.
+   *
+   * @param entity the entity
+   * @param variants the variants of the representation
+   * @return the weak entity tag
+   */
+  public static String of(CommonAttributes entity, String... variants) {
+    List<CommonAttributes> entities = entity != null
+        ? Collections.singletonList(entity)
+        : Collections.emptyList();
+    return of(entities, variants);
+  }
+
+  /**
+   * Creates the entity tag of a list of entities. The order of the entities is significant.
+   *
+   * @param entities the entities
+   * @param variants the variants of the representation
+   * @return the weak entity tag
+   */
+  public static String of(
+      Collection<? extends CommonAttributes> entities,
+      String... variants) {
+
+    MessageDigest digest = newDigest();
+    if (entities != null) {
+      for (CommonAttributes entity : entities) {
+        update(digest, entity.getDistinguishedName());
+        update(digest, entity.getModified() != null
+            ? String.valueOf(entity.getModified().toInstant())
+            : null);
+        if (entity instanceof DomainUser) {
+          updateVolatileAttributes(digest, (DomainUser) entity);
+        }
+      }
+    }
+    if (variants != null) {
+      for (String variant : variants) {
+        update(digest, variant);
+      }
+    }
+    byte[] hash = digest.digest();
+    return "W/\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + '"';
+  }
+
+  /**
+   * Checks whether the value of the {@code If-None-Match} header matches the given entity tag
+   * (weak comparison as specified in RFC 7232).
+   *
+   * @param ifNoneMatch the value of the {@code If-None-Match} header
+   * @param entityTag the current entity tag
+   * @return {@code true} if the client already has the current representation (the server can
+   *     respond with {@code 304 Not Modified}), otherwise {@code false}
+   */
+  public static boolean matches(String ifNoneMatch, String entityTag) {
+    if (ifNoneMatch == null || ifNoneMatch.trim().isEmpty() || entityTag == null) {
+      return false;
+    }
+    String expected = opaqueTag(entityTag);
+    for (String tag : ifNoneMatch.split(",")) {
+      String value = tag.trim();
+      if ("*".equals(value) || expected.equals(opaqueTag(value))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String opaqueTag(String entityTag) {
+    String value = entityTag.trim();
+    return value.startsWith("W/") ? value.substring(2) : value;
+  }
+
+  private static void updateVolatileAttributes(MessageDigest digest, DomainUser user) {
+    update(digest, user.getLastLogon() != null
+        ? String.valueOf(user.getLastLogon().toInstant())
+        : null);
+    update(digest, user.getLogonCount() != null ? String.valueOf(user.getLogonCount()) : null);
+    update(digest, String.join(",", user.getGroups()));
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    if (value != null) {
+      digest.update(value.getBytes(StandardCharsets.UTF_8));
+    }
+    digest.update(SEPARATOR);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not supported.", e);
+    }
+  }
+
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The field projection implements the sparse fieldsets ({@code fields} request parameter) of the
+ * read endpoints. It copies only the requested properties into a new entity. The other properties
+ * of the projection are {@code null} and, because the projected entities don't serialize
+ * {@code null} values (neither {@code null} collections nor a {@code null} enabled flag), they are
+ * missing in the json. The type property {@code _type} is always written.
+ *
+ * <p>An unknown property name is rejected with an {@link IllegalArgumentException}; the endpoints
+ * answer it with {@code 400}.
+ *
+ * @param <T> the type of the entities
+ * @author Christian Bremer
+ */
+public final class FieldProjection<T> {
+
+  /**
+   * The field projection of domain users. The password is never returned, so it can't be
+   * requested.
+   */
+  public static final FieldProjection<DomainUser> DOMAIN_USER = new Builder<DomainUser>(
+      () -> DomainUser.builder().build())
+      .add("distinguishedName", DomainUser::getDistinguishedName,
+          DomainUser::setDistinguishedName)
+      .add("created", DomainUser::getCreated, DomainUser::setCreated)
+      .add("modified", DomainUser::getModified, DomainUser::setModified)
+      .add("sid", DomainUser::getSid, DomainUser::setSid)
+      .add("userName", DomainUser::getUserName, DomainUser::setUserName)
+      .add("enabled", DomainUser::getEnabled, DomainUser::setEnabled)
+      .add("firstName", DomainUser::getFirstName, DomainUser::setFirstName)
+      .add("lastName", DomainUser::getLastName, DomainUser::setLastName)
+      .add("displayName", DomainUser::getDisplayName, DomainUser::setDisplayName)
+      .add("email", DomainUser::getEmail, DomainUser::setEmail)
+      .add("telephoneNumber", DomainUser::getTelephoneNumber, DomainUser::setTelephoneNumber)
+      .add("mobile", DomainUser::getMobile, DomainUser::setMobile)
+      .add("description", DomainUser::getDescription, DomainUser::setDescription)
+      .add("homeDirectory", DomainUser::getHomeDirectory, DomainUser::setHomeDirectory)
+      .add("unixHomeDirectory", DomainUser::getUnixHomeDirectory,
+          DomainUser::setUnixHomeDirectory)
+      .add("loginShell", DomainUser::getLoginShell, DomainUser::setLoginShell)
+      .add("lastLogon", DomainUser::getLastLogon, DomainUser::setLastLogon)
+      .add("logonCount", DomainUser::getLogonCount, DomainUser::setLogonCount)
+      .add("passwordLastSet", DomainUser::getPasswordLastSet, DomainUser::setPasswordLastSet)
+      .add("groups", DomainUser::getGroups, DomainUser::setGroups)
+      .build();
+
+  /**
+   * The field projection of domain groups.
+   */
+  public static final FieldProjection<DomainGroup> DOMAIN_GROUP = new Builder<DomainGroup>(
+      DomainGroup::new)
+      .add("distinguishedName", DomainGroup::getDistinguishedName,
+          DomainGroup::setDistinguishedName)
+      .add("created", DomainGroup::getCreated, DomainGroup::setCreated)
+      .add("modified", DomainGroup::getModified, DomainGroup::setModified)
+      .add("name", DomainGroup::getName, DomainGroup::setName)
+      .add("description", DomainGroup::getDescription, DomainGroup::setDescription)
+      .add("sid", DomainGroup::getSid, DomainGroup::setSid)
+      .add("members", DomainGroup::getMembers, DomainGroup::setMembers)
+      .add("memberCount", DomainGroup::getMemberCount, DomainGroup::setMemberCount)
+      .build();
+
+  /**
+   * The field projection of dns nodes.
+   */
+  public static final FieldProjection<DnsNode> DNS_NODE = new Builder<DnsNode>(DnsNode::new)
+      .add("distinguishedName", DnsNode::getDistinguishedName, DnsNode::setDistinguishedName)
+      .add("created", DnsNode::getCreated, DnsNode::setCreated)
+      .add("modified", DnsNode::getModified, DnsNode::setModified)
+      .add("name", DnsNode::getName, DnsNode::setName)
+      .add("records", DnsNode::getRecords, DnsNode::setRecords)
+      .build();
+
+  private final Supplier<T> factory;
+
+  private final Map<String, BiConsumer<T, T>> properties;
+
+  private FieldProjection(Supplier<T> factory, Map<String, BiConsumer<T, T>> properties) {
+    this.factory = factory;
+    this.properties = properties;
+  }
+
+  /**
+   * Gets the names of the properties that can be requested.
+   *
+   * @return the names of the properties
+   */
+  public Set<String> getProperties() {
+    return properties.keySet();
+  }
+
+  /**
+   * Resolves the requested properties. The server can use the result to skip the lookups of
+   * properties that are not requested (like the groups of a domain user).
+   *
+   * @param fields the requested properties (blank entries are ignored)
+   * @return the requested properties; all properties, if no property is requested
+   * @throws IllegalArgumentException if a property is unknown
+   */
+  public Set<String> resolve(Collection<String> fields) {
+    Set<String> result = new LinkedHashSet<>();
+    if (fields != null) {
+      for (String field : fields) {
+        String property = field != null ? field.trim() : "";
+        if (!property.isEmpty()) {
+          if (!properties.containsKey(property)) {
+            throw new IllegalArgumentException(
+                "Fields contain unknown property [" + property + "].");
+          }
+          result.add(property);
+        }
+      }
+    }
+    return result.isEmpty() ? getProperties() : Collections.unmodifiableSet(result);
+  }
+
+  /**
+   * Creates the projection of the given entity.
+   *
+   * @param source the entity
+   * @param fields the requested properties; if empty, the entity itself is returned
+   * @return the projection or {@code null}, if the entity is {@code null}
+   * @throws IllegalArgumentException if a property is unknown
+   */
+  public T project(T source, Collection<String> fields) {
+    Set<String> requested = resolve(fields);
+    if (source == null || requested.size() == properties.size()) {
+      return source;
+    }
+    T target = factory.get();
+    for (String property : requested) {
+      properties.get(property).accept(source, target);
+    }
+    return target;
+  }
+
+  /**
+   * The builder of a field projection.
+   *
+   * @param <T> the type of the entities
+   */
+  private static class Builder<T> {
+
+    private final Supplier<T> factory;
+
+    private final Map<String, BiConsumer<T, T>> properties = new LinkedHashMap<>();
+
+    Builder(Supplier<T> factory) {
+      this.factory = factory;
+    }
+
+    <V> Builder<T> add(String property, Function<T, V> getter, BiConsumer<T, V> setter) {
+      properties.put(property, (source, target) -> setter.accept(target, getter.apply(source)));
+      return this;
+    }
+
+    FieldProjection<T> build() {
+      return new FieldProjection<>(factory, Collections.unmodifiableMap(properties));
+    }
+  }
+
+}
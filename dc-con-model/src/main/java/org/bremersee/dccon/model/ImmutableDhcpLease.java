@@ -0,0 +1,107 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The immutable read model of a {@link DhcpLease}. It has the same json representation.
+ *
+ * @author Christian Bremer
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class ImmutableDhcpLease implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String mac;
+
+  private final String ip;
+
+  private final String hostname;
+
+  private final OffsetDateTime begin;
+
+  private final OffsetDateTime end;
+
+  private final String manufacturer;
+
+  /**
+   * Instantiates a new immutable dhcp lease.
+   *
+   * @param mac the mac
+   * @param ip the ip
+   * @param hostname the hostname
+   * @param begin the begin
+   * @param end the end
+   * @param manufacturer the manufacturer
+   */
+  @JsonCreator
+  public ImmutableDhcpLease(
+      @JsonProperty("mac") String mac,
+      @JsonProperty("ip") String ip,
+      @JsonProperty("hostname") String hostname,
+      @JsonProperty("begin") OffsetDateTime begin,
+      @JsonProperty("end") OffsetDateTime end,
+      @JsonProperty("manufacturer") String manufacturer) {
+    this.mac = mac;
+    this.ip = ip;
+    this.hostname = hostname;
+    this.begin = begin;
+    this.end = end;
+    this.manufacturer = manufacturer;
+  }
+
+  /**
+   * Creates the read model of the given dhcp lease.
+   *
+   * @param dhcpLease the dhcp lease
+   * @return the immutable dhcp lease or {@code null}, if the dhcp lease is {@code null}
+   */
+  public static ImmutableDhcpLease of(DhcpLease dhcpLease) {
+    if (dhcpLease == null) {
+      return null;
+    }
+    return new ImmutableDhcpLease(
+        dhcpLease.getMac(),
+        dhcpLease.getIp(),
+        dhcpLease.getHostname(),
+        dhcpLease.getBegin(),
+        dhcpLease.getEnd(),
+        dhcpLease.getManufacturer());
+  }
+
+  /**
+   * Creates a new mutable dhcp lease.
+   *
+   * @return the dhcp lease
+   */
+  public DhcpLease toDhcpLease() {
+    return new DhcpLease(mac, ip, hostname, begin, end, manufacturer);
+  }
+
+}
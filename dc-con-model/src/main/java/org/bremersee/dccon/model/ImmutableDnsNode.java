@@ -0,0 +1,141 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The immutable read model of a {@link DnsNode}. It has the same json representation and can be
+ * shared between threads without copying.
+ *
+ * @author Christian Bremer
+ */
+@JsonTypeInfo(
+    use = JsonTypeInfo.Id.NAME,
+    property = "_type",
+    defaultImpl = ImmutableDnsNode.class)
+@JsonTypeName("DnsNode")
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class ImmutableDnsNode implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String distinguishedName;
+
+  private final OffsetDateTime created;
+
+  private final OffsetDateTime modified;
+
+  private final String name;
+
+  private final Set<ImmutableDnsRecord> records;
+
+  /**
+   * Instantiates a new immutable dns node.
+   *
+   * @param distinguishedName the distinguished name
+   * @param created the created
+   * @param modified the modified
+   * @param name the name
+   * @param records the records
+   */
+  @JsonCreator
+  public ImmutableDnsNode(
+      @JsonProperty("distinguishedName") String distinguishedName,
+      @JsonProperty("created") OffsetDateTime created,
+      @JsonProperty("modified") OffsetDateTime modified,
+      @JsonProperty("name") String name,
+      @JsonProperty("records") Collection<ImmutableDnsRecord> records) {
+    this(distinguishedName, created, modified, name,
+        ReadModels.unmodifiableSet(records, Function.identity()));
+  }
+
+  private ImmutableDnsNode(
+      String distinguishedName,
+      OffsetDateTime created,
+      OffsetDateTime modified,
+      String name,
+      Set<ImmutableDnsRecord> records) {
+    // the records are already an unmodifiable set
+    this.distinguishedName = distinguishedName;
+    this.created = created;
+    this.modified = modified;
+    this.name = name;
+    this.records = records;
+  }
+
+  /**
+   * Creates the read model of the given dns node.
+   *
+   * @param dnsNode the dns node
+   * @return the immutable dns node or {@code null}, if the dns node is {@code null}
+   */
+  public static ImmutableDnsNode of(DnsNode dnsNode) {
+    if (dnsNode == null) {
+      return null;
+    }
+    return new ImmutableDnsNode(
+        dnsNode.getDistinguishedName(),
+        dnsNode.getCreated(),
+        dnsNode.getModified(),
+        dnsNode.getName(),
+        ReadModels.unmodifiableSet(dnsNode.getRecords(), ImmutableDnsRecord::of));
+  }
+
+  /**
+   * Creates a new mutable dns node.
+   *
+   * @return the dns node
+   */
+  public DnsNode toDnsNode() {
+    Set<DnsRecord> dnsRecords = new LinkedHashSet<>();
+    for (ImmutableDnsRecord record : records) {
+      dnsRecords.add(record.toDnsRecord());
+    }
+    return new DnsNode(distinguishedName, created, modified, name, dnsRecords);
+  }
+
+  /**
+   * Creates the identity key of this read model, it is the same as the key of the dns node, see
+   * {@link EntityKey}.
+   *
+   * @return the entity key
+   */
+  public EntityKey toEntityKey() {
+    return EntityKey.of("DnsNode", distinguishedName, modified);
+  }
+
+}
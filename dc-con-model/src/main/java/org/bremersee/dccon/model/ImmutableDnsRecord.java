@@ -0,0 +1,164 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.OffsetDateTime;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The immutable read model of a {@link DnsRecord}. It has the same json representation and, like
+ * the dns record, it is equal to another one with the same type and value.
+ *
+ * @author Christian Bremer
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@EqualsAndHashCode(of = {"recordType", "recordValue"})
+@ToString(exclude = {"recordRawValue"})
+public final class ImmutableDnsRecord implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String recordType;
+
+  private final String recordValue;
+
+  @JsonProperty("recordRawValue")
+  @JsonInclude(Include.NON_NULL)
+  private final byte[] recordRawValue;
+
+  private final String correlatedRecordValue;
+
+  private final Integer version;
+
+  private final Integer serial;
+
+  private final Integer ttlSeconds;
+
+  private final OffsetDateTime timeStamp;
+
+  private final ImmutableDhcpLease dhcpLease;
+
+  /**
+   * Instantiates a new immutable dns record.
+   *
+   * @param recordType the record type
+   * @param recordValue the record value
+   * @param recordRawValue the record raw active directory value
+   * @param correlatedRecordValue the correlated record value
+   * @param version the version
+   * @param serial the serial
+   * @param ttlSeconds the ttl seconds
+   * @param timeStamp the time stamp
+   * @param dhcpLease the dhcp lease
+   */
+  @JsonCreator
+  public ImmutableDnsRecord(
+      @JsonProperty("recordType") String recordType,
+      @JsonProperty("recordValue") String recordValue,
+      @JsonProperty("recordRawValue") byte[] recordRawValue,
+      @JsonProperty("correlatedRecordValue") String correlatedRecordValue,
+      @JsonProperty("version") Integer version,
+      @JsonProperty("serial") Integer serial,
+      @JsonProperty("ttlSeconds") Integer ttlSeconds,
+      @JsonProperty("timeStamp") OffsetDateTime timeStamp,
+      @JsonProperty("dhcpLease") ImmutableDhcpLease dhcpLease) {
+    this.recordType = recordType;
+    this.recordValue = recordValue;
+    this.recordRawValue = recordRawValue != null ? recordRawValue.clone() : null;
+    this.correlatedRecordValue = correlatedRecordValue;
+    this.version = version;
+    this.serial = serial;
+    this.ttlSeconds = ttlSeconds;
+    this.timeStamp = timeStamp;
+    this.dhcpLease = dhcpLease;
+  }
+
+  /**
+   * Creates the read model of the given dns record.
+   *
+   * @param dnsRecord the dns record
+   * @return the immutable dns record or {@code null}, if the dns record is {@code null}
+   */
+  public static ImmutableDnsRecord of(DnsRecord dnsRecord) {
+    if (dnsRecord == null) {
+      return null;
+    }
+    return new ImmutableDnsRecord(
+        dnsRecord.getRecordType(),
+        dnsRecord.getRecordValue(),
+        dnsRecord.getRecordRawValue(),
+        dnsRecord.getCorrelatedRecordValue(),
+        dnsRecord.getVersion(),
+        dnsRecord.getSerial(),
+        dnsRecord.getTtlSeconds(),
+        dnsRecord.getTimeStamp(),
+        ImmutableDhcpLease.of(dnsRecord.getDhcpLease()));
+  }
+
+  /**
+   * Gets a copy of the record raw active directory value. Arrays can't be read only, so every call
+   * copies the value; use {@link #getRecordRawValueBuffer()} to read it without copying. The json
+   * serialization uses the value itself and doesn't copy it.
+   *
+   * @return the record raw active directory value
+   */
+  @JsonIgnore
+  public byte[] getRecordRawValue() {
+    return recordRawValue != null ? recordRawValue.clone() : null;
+  }
+
+  /**
+   * Gets a read only view of the record raw active directory value.
+   *
+   * @return the read only view of the record raw active directory value or {@code null}, if there
+   *     is no value
+   */
+  @JsonIgnore
+  public ByteBuffer getRecordRawValueBuffer() {
+    return recordRawValue != null ? ByteBuffer.wrap(recordRawValue).asReadOnlyBuffer() : null;
+  }
+
+  /**
+   * Creates a new mutable dns record.
+   *
+   * @return the dns record
+   */
+  public DnsRecord toDnsRecord() {
+    return new DnsRecord(
+        recordType,
+        recordValue,
+        getRecordRawValue(),
+        correlatedRecordValue,
+        version,
+        serial,
+        ttlSeconds,
+        timeStamp,
+        dhcpLease != null ? dhcpLease.toDhcpLease() : null);
+  }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The immutable read model of a {@link DomainGroup}. It has the same json representation and can
+ * be shared between threads without copying.
+ *
+ * @author Christian Bremer
+ */
+@JsonTypeInfo(
+    use = JsonTypeInfo.Id.NAME,
+    property = "_type",
+    defaultImpl = ImmutableDomainGroup.class)
+@JsonTypeName("DomainGroup")
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class ImmutableDomainGroup implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String distinguishedName;
+
+  private final OffsetDateTime created;
+
+  private final OffsetDateTime modified;
+
+  private final String name;
+
+  private final String description;
+
+  private final Sid sid;
+
+  private final List<String> members;
+
+  private final Integer memberCount;
+
+  /**
+   * Instantiates a new immutable domain group.
+   *
+   * @param distinguishedName the distinguished name
+   * @param created the created
+   * @param modified the modified
+   * @param name the name
+   * @param description the description
+   * @param sid the sid
+   * @param members the members
+   * @param memberCount the number of members
+   */
+  @JsonCreator
+  public ImmutableDomainGroup(
+      @JsonProperty("distinguishedName") String distinguishedName,
+      @JsonProperty("created") OffsetDateTime created,
+      @JsonProperty("modified") OffsetDateTime modified,
+      @JsonProperty("name") String name,
+      @JsonProperty("description") String description,
+      @JsonProperty("sid") Sid sid,
+      @JsonProperty("members") Collection<String> members,
+      @JsonProperty("memberCount") Integer memberCount) {
+    this.distinguishedName = distinguishedName;
+    this.created = created;
+    this.modified = modified;
+    this.name = name;
+    this.description = description;
+    this.sid = ReadModels.immutableOf(sid);
+    this.members = ReadModels.unmodifiableList(members, Function.identity());
+    this.memberCount = memberCount;
+  }
+
+  /**
+   * Creates the read model of the given domain group.
+   *
+   * @param domainGroup the domain group
+   * @return the immutable domain group or {@code null}, if the domain group is {@code null}
+   */
+  public static ImmutableDomainGroup of(DomainGroup domainGroup) {
+    if (domainGroup == null) {
+      return null;
+    }
+    return new ImmutableDomainGroup(
+        domainGroup.getDistinguishedName(),
+        domainGroup.getCreated(),
+        domainGroup.getModified(),
+        domainGroup.getName(),
+        domainGroup.getDescription(),
+        domainGroup.getSid(),
+        domainGroup.getMembers(),
+        domainGroup.getMemberCount());
+  }
+
+  /**
+   * Creates a new mutable domain group.
+   *
+   * @return the domain group
+   */
+  public DomainGroup toDomainGroup() {
+    return new DomainGroup(distinguishedName, created, modified, ReadModels.copyOf(sid), name,
+        description, new ArrayList<>(members), memberCount);
+  }
+
+  /**
+   * Creates the identity key of this read model, it is the same as the key of the domain group, see
+   * {@link EntityKey}.
+   *
+   * @return the entity key
+   */
+  public EntityKey toEntityKey() {
+    return EntityKey.of("DomainGroup", distinguishedName, modified);
+  }
+
+}
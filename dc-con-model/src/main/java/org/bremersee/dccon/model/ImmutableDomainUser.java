@@ -0,0 +1,219 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.JsonTypeName;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The immutable read model of a {@link DomainUser}. It has the same json representation (without
+ * the password, which is never read) and can be shared between threads without copying.
+ *
+ * @author Christian Bremer
+ */
+@JsonTypeInfo(
+    use = JsonTypeInfo.Id.NAME,
+    property = "_type",
+    defaultImpl = ImmutableDomainUser.class)
+@JsonTypeName("DomainUser")
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@EqualsAndHashCode
+@ToString
+public final class ImmutableDomainUser implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final String distinguishedName;
+
+  private final OffsetDateTime created;
+
+  private final OffsetDateTime modified;
+
+  private final Sid sid;
+
+  private final String userName;
+
+  private final Boolean enabled;
+
+  private final String firstName;
+
+  private final String lastName;
+
+  private final String displayName;
+
+  private final String email;
+
+  private final String telephoneNumber;
+
+  private final String mobile;
+
+  private final String description;
+
+  private final String homeDirectory;
+
+  private final String unixHomeDirectory;
+
+  private final String loginShell;
+
+  private final OffsetDateTime lastLogon;
+
+  private final Integer logonCount;
+
+  private final OffsetDateTime passwordLastSet;
+
+  private final List<String> groups;
+
+  /**
+   * Instantiates a new immutable domain user.
+   *
+   * @param distinguishedName the distinguished name
+   * @param created the created
+   * @param modified the modified
+   * @param sid the sid
+   * @param userName the user name
+   * @param enabled the enabled
+   * @param firstName the first name
+   * @param lastName the last name
+   * @param displayName the display name
+   * @param email the email
+   * @param telephoneNumber the telephone number
+   * @param mobile the mobile
+   * @param description the description
+   * @param homeDirectory the home directory
+   * @param unixHomeDirectory the unix home directory
+   * @param loginShell the login shell
+   * @param lastLogon the last logon
+   * @param logonCount the logon count
+   * @param passwordLastSet the password last set
+   * @param groups the groups
+   */
+  @JsonCreator
+  public ImmutableDomainUser(
+      @JsonProperty("distinguishedName") String distinguishedName,
+      @JsonProperty("created") OffsetDateTime created,
+      @JsonProperty("modified") OffsetDateTime modified,
+      @JsonProperty("sid") Sid sid,
+      @JsonProperty("userName") String userName,
+      @JsonProperty("enabled") Boolean enabled,
+      @JsonProperty("firstName") String firstName,
+      @JsonProperty("lastName") String lastName,
+      @JsonProperty("displayName") String displayName,
+      @JsonProperty("email") String email,
+      @JsonProperty("telephoneNumber") String telephoneNumber,
+      @JsonProperty("mobile") String mobile,
+      @JsonProperty("description") String description,
+      @JsonProperty("homeDirectory") String homeDirectory,
+      @JsonProperty("unixHomeDirectory") String unixHomeDirectory,
+      @JsonProperty("loginShell") String loginShell,
+      @JsonProperty("lastLogon") OffsetDateTime lastLogon,
+      @JsonProperty("logonCount") Integer logonCount,
+      @JsonProperty("passwordLastSet") OffsetDateTime passwordLastSet,
+      @JsonProperty("groups") Collection<String> groups) {
+    this.distinguishedName = distinguishedName;
+    this.created = created;
+    this.modified = modified;
+    this.sid = ReadModels.immutableOf(sid);
+    this.userName = userName;
+    this.enabled = enabled;
+    this.firstName = firstName;
+    this.lastName = lastName;
+    this.displayName = displayName;
+    this.email = email;
+    this.telephoneNumber = telephoneNumber;
+    this.mobile = mobile;
+    this.description = description;
+    this.homeDirectory = homeDirectory;
+    this.unixHomeDirectory = unixHomeDirectory;
+    this.loginShell = loginShell;
+    this.lastLogon = lastLogon;
+    this.logonCount = logonCount;
+    this.passwordLastSet = passwordLastSet;
+    this.groups = ReadModels.unmodifiableList(groups, Function.identity());
+  }
+
+  /**
+   * Creates the read model of the given domain user.
+   *
+   * @param domainUser the domain user
+   * @return the immutable domain user or {@code null}, if the domain user is {@code null}
+   */
+  public static ImmutableDomainUser of(DomainUser domainUser) {
+    if (domainUser == null) {
+      return null;
+    }
+    return new ImmutableDomainUser(
+        domainUser.getDistinguishedName(),
+        domainUser.getCreated(),
+        domainUser.getModified(),
+        domainUser.getSid(),
+        domainUser.getUserName(),
+        domainUser.getEnabled(),
+        domainUser.getFirstName(),
+        domainUser.getLastName(),
+        domainUser.getDisplayName(),
+        domainUser.getEmail(),
+        domainUser.getTelephoneNumber(),
+        domainUser.getMobile(),
+        domainUser.getDescription(),
+        domainUser.getHomeDirectory(),
+        domainUser.getUnixHomeDirectory(),
+        domainUser.getLoginShell(),
+        domainUser.getLastLogon(),
+        domainUser.getLogonCount(),
+        domainUser.getPasswordLastSet(),
+        domainUser.getGroups());
+  }
+
+  /**
+   * Creates a new mutable domain user.
+   *
+   * @return the domain user
+   */
+  public DomainUser toDomainUser() {
+    return new DomainUser(distinguishedName, created, modified, ReadModels.copyOf(sid), userName,
+        enabled, firstName, lastName, displayName, email, telephoneNumber, mobile, description,
+        homeDirectory, unixHomeDirectory, loginShell, lastLogon, logonCount, passwordLastSet,
+        null, new ArrayList<>(groups));
+  }
+
+  /**
+   * Creates the identity key of this read model, it is the same as the key of the domain user, see
+   * {@link EntityKey}.
+   *
+   * @return the entity key
+   */
+  public EntityKey toEntityKey() {
+    return EntityKey.of("DomainUser", distinguishedName, modified);
+  }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable table of the organizationally unique identifiers (OUI) of the IEEE MA-L registry
+ * that resolves the manufacturer of a mac address. The prefixes are kept in a sorted
+ * {@code long} array, so a lookup is a binary search without any allocation.
+ *
+ * <p>The table can be loaded from the text ({@code oui.txt}) or the csv ({@code oui.csv})
+ * format of the IEEE registry with {@link #load(Reader)}.
+ *
+ * @author Christian Bremer
+ */
+public final class OuiTable {
+
+  /**
+   * The empty table.
+   */
+  public static final OuiTable EMPTY = new OuiTable(new long[0], new String[0]);
+
+  private static final String HEX_MARKER = "(hex)";
+
+  private static final String CSV_REGISTRY = "MA-L,";
+
+  private final long[] prefixes;
+
+  private final String[] manufacturers;
+
+  private OuiTable(long[] prefixes, String[] manufacturers) {
+    this.prefixes = prefixes;
+    this.manufacturers = manufacturers;
+  }
+
+  /**
+   * Creates a table from the given prefixes and manufacturers.
+   *
+   * @param manufacturers the manufacturers by prefix (the 24 bit OUI)
+   * @return the table
+   */
+  public static OuiTable of(Map<Long, String> manufacturers) {
+    if (manufacturers == null || manufacturers.isEmpty()) {
+      return EMPTY;
+    }
+    TreeMap<Long, String> sorted = new TreeMap<>(manufacturers);
+    long[] prefixes = new long[sorted.size()];
+    String[] names = new String[sorted.size()];
+    int i = 0;
+    for (Map.Entry<Long, String> entry : sorted.entrySet()) {
+      prefixes[i] = entry.getKey();
+      names[i] = entry.getValue();
+      i++;
+    }
+    return new OuiTable(prefixes, names);
+  }
+
+  /**
+   * Loads a table from the text or csv format of the IEEE MA-L registry. The reader is not
+   * closed. If a prefix occurs more than once, the first manufacturer wins.
+   *
+   * @param reader the reader of the registry
+   * @return the table
+   * @throws IOException if reading fails
+   */
+  public static OuiTable load(Reader reader) throws IOException {
+    Map<Long, String> manufacturers = new TreeMap<>();
+    BufferedReader lines = reader instanceof BufferedReader
+        ? (BufferedReader) reader
+        : new BufferedReader(reader);
+    String line;
+    while ((line = lines.readLine()) != null) {
+      if (line.startsWith(CSV_REGISTRY)) {
+        List<String> fields = parseCsv(line);
+        if (fields.size() > 2) {
+          putIfValid(manufacturers, fields.get(1), fields.get(2));
+        }
+      } else {
+        int index = line.indexOf(HEX_MARKER);
+        if (index > 0) {
+          putIfValid(
+              manufacturers,
+              line.substring(0, index),
+              line.substring(index + HEX_MARKER.length()));
+        }
+      }
+    }
+    return of(manufacturers);
+  }
+
+  private static void putIfValid(Map<Long, String> manufacturers, String prefix, String name) {
+    long key = prefix(prefix.trim());
+    String value = name.trim();
+    if (key >= 0 && !value.isEmpty()) {
+      manufacturers.putIfAbsent(key, value);
+    }
+  }
+
+  private static List<String> parseCsv(String line) {
+    List<String> fields = new ArrayList<>();
+    StringBuilder field = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (c == '"') {
+        if (quoted && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          field.append(c);
+          i++;
+        } else {
+          quoted = !quoted;
+        }
+      } else if (c == ',' && !quoted) {
+        fields.add(field.toString());
+        field.setLength(0);
+      } else {
+        field.append(c);
+      }
+    }
+    fields.add(field.toString());
+    return fields;
+  }
+
+  /**
+   * Gets the prefix (the first 24 bits) of the given mac address. The mac address may only
+   * contain the hex digits {@code 0-9}, {@code a-f} and {@code A-F} and the separators colon,
+   * hyphen and dot.
+   *
+   * @param mac the mac address
+   * @return the prefix or {@code -1}, if the mac address contains any other character or has
+   *     less than six hex digits
+   */
+  public static long prefix(CharSequence mac) {
+    if (mac == null) {
+      return -1L;
+    }
+    long prefix = 0L;
+    int digits = 0;
+    for (int i = 0; i < mac.length(); i++) {
+      char c = mac.charAt(i);
+      int value = hexValue(c);
+      if (value >= 0) {
+        if (digits < 6) {
+          prefix = (prefix << 4) | value;
+        }
+        digits++;
+      } else if (c != ':' && c != '-' && c != '.') {
+        return -1L;
+      }
+    }
+    return digits >= 6 ? prefix : -1L;
+  }
+
+  private static int hexValue(char c) {
+    if (c >= '0' && c <= '9') {
+      return c - '0';
+    }
+    if (c >= 'a' && c <= 'f') {
+      return c - 'a' + 10;
+    }
+    if (c >= 'A' && c <= 'F') {
+      return c - 'A' + 10;
+    }
+    return -1;
+  }
+
+  /**
+   * Finds the manufacturer of the given mac address.
+   *
+   * @param mac the mac address
+   * @return the manufacturer or {@code null}, if it is unknown
+   */
+  public String findManufacturer(CharSequence mac) {
+    long prefix = prefix(mac);
+    if (prefix < 0) {
+      return null;
+    }
+    int index = Arrays.binarySearch(prefixes, prefix);
+    return index >= 0 ? manufacturers[index] : null;
+  }
+
+  /**
+   * Returns the number of prefixes.
+   *
+   * @return the number of prefixes
+   */
+  public int size() {
+    return prefixes.length;
+  }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Helper methods of the immutable read models.
+ *
+ * @author Christian Bremer
+ */
+final class ReadModels {
+
+  private ReadModels() {
+  }
+
+  /**
+   * Creates an immutable sid of the given sid. The result can be returned by the read models
+   * directly; it is equal to a mutable sid with the same values and has the same json
+   * representation.
+   *
+   * @param sid the sid
+   * @return the immutable sid or {@code null}, if the sid is {@code null}
+   */
+  static Sid immutableOf(Sid sid) {
+    if (sid == null || sid instanceof ImmutableSid) {
+      return sid;
+    }
+    return new ImmutableSid(sid.getValue(), sid.getSystemEntity());
+  }
+
+  /**
+   * Creates a mutable copy of the given sid.
+   *
+   * @param sid the sid
+   * @return the copy or {@code null}, if the sid is {@code null}
+   */
+  static Sid copyOf(Sid sid) {
+    return sid != null ? new Sid(sid.getValue(), sid.getSystemEntity()) : null;
+  }
+
+  /**
+   * Creates a compact unmodifiable list of the given values.
+   *
+   * @param values the values
+   * @param mapper maps a value to the element of the list
+   * @param <S> the type of the values
+   * @param <T> the type of the elements
+   * @return the unmodifiable list
+   */
+  static <S, T> List<T> unmodifiableList(
+      Collection<? extends S> values,
+      Function<? super S, ? extends T> mapper) {
+    if (values == null || values.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (values.size() == 1) {
+      return Collections.singletonList(mapper.apply(values.iterator().next()));
+    }
+    List<T> list = new ArrayList<>(values.size());
+    for (S value : values) {
+      list.add(mapper.apply(value));
+    }
+    return Collections.unmodifiableList(list);
+  }
+
+  /**
+   * Creates a compact unmodifiable set of the given values that keeps their order.
+   *
+   * @param values the values
+   * @param mapper maps a value to the element of the set
+   * @param <S> the type of the values
+   * @param <T> the type of the elements
+   * @return the unmodifiable set
+   */
+  static <S, T> Set<T> unmodifiableSet(
+      Collection<? extends S> values,
+      Function<? super S, ? extends T> mapper) {
+    if (values == null || values.isEmpty()) {
+      return Collections.emptySet();
+    }
+    if (values.size() == 1) {
+      return Collections.singleton(mapper.apply(values.iterator().next()));
+    }
+    Set<T> set = new LinkedHashSet<>((int) (values.size() / .75f) + 1);
+    for (S value : values) {
+      set.add(mapper.apply(value));
+    }
+    return Collections.unmodifiableSet(set);
+  }
+
+  /**
+   * A sid that can't be modified after construction.
+   */
+  private static final class ImmutableSid extends Sid {
+
+    private static final long serialVersionUID = 1L;
+
+    private final boolean constructed;
+
+    private ImmutableSid(String value, Boolean systemEntity) {
+      super(value, systemEntity);
+      this.constructed = true;
+    }
+
+    @Override
+    public void setValue(String value) {
+      checkModification();
+      super.setValue(value);
+    }
+
+    @Override
+    public void setSystemEntity(Boolean systemEntity) {
+      checkModification();
+      super.setSystemEntity(systemEntity);
+    }
+
+    private void checkModification() {
+      // the constructor of the super class calls the setters
+      if (constructed) {
+        throw new UnsupportedOperationException("The sid of a read model can't be modified.");
+      }
+    }
+  }
+
+}
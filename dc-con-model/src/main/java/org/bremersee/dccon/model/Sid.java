@@ -16,11 +16,14 @@
 
 package org.bremersee.dccon.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
 import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Locale;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
@@ -102,4 +105,265 @@ public class Sid implements Serializable {
     this.systemEntity = systemEntity;
   }
 
+  /**
+   * Parses the value into the binary form.
+   *
+   * @return the binary form or {@code null}, if there is no value
+   * @throws IllegalArgumentException if the value is not a valid SID
+   */
+  @JsonIgnore
+  public Binary toBinary() {
+    return value != null ? Binary.parse(value) : null;
+  }
+
+  /**
+   * The binary form of a SID: the revision, the identifier authority and the sub-authorities are
+   * kept as primitives, so that equality and hash code are cheap. It is immutable and can be used
+   * as key of maps.
+   */
+  public static final class Binary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final int MAX_SUB_AUTHORITIES = 15;
+
+    private static final long MAX_AUTHORITY = 0xFFFFFFFFFFFFL;
+
+    private static final long MAX_SUB_AUTHORITY = 0xFFFFFFFFL;
+
+    private final int revision;
+
+    private final long authority;
+
+    private final int[] subAuthorities;
+
+    private final int hashCode;
+
+    private Binary(int revision, long authority, int[] subAuthorities) {
+      this.revision = revision;
+      this.authority = authority;
+      this.subAuthorities = subAuthorities;
+      int hash = 31 * revision + Long.hashCode(authority);
+      this.hashCode = 31 * hash + Arrays.hashCode(subAuthorities);
+    }
+
+    /**
+     * Parses the string form of a SID (like {@code S-1-5-21-1004336348-1177238915-682003330-512})
+     * without creating intermediate strings.
+     *
+     * @param sid the string form of the SID
+     * @return the binary form
+     * @throws IllegalArgumentException if the string is not a valid SID
+     */
+    public static Binary parse(CharSequence sid) {
+      int length = sid != null ? sid.length() : 0;
+      if (length < 5
+          || (sid.charAt(0) != 'S' && sid.charAt(0) != 's')
+          || sid.charAt(1) != '-') {
+        throw invalid(sid);
+      }
+      int separators = 0;
+      for (int i = 2; i < length; i++) {
+        if (sid.charAt(i) == '-') {
+          separators++;
+        }
+      }
+      int count = separators - 1;
+      if (count < 0 || count > MAX_SUB_AUTHORITIES) {
+        throw invalid(sid);
+      }
+      int[] subAuthorities = new int[count];
+      int pos = 2;
+      int revision = 0;
+      long authority = 0L;
+      for (int part = -2; part < count; part++) {
+        int start = pos;
+        int radix = 10;
+        if (part == -1 && pos + 1 < length && sid.charAt(pos) == '0'
+            && (sid.charAt(pos + 1) == 'x' || sid.charAt(pos + 1) == 'X')) {
+          radix = 16;
+          pos += 2;
+          start = pos;
+        }
+        long number = 0L;
+        while (pos < length && sid.charAt(pos) != '-') {
+          int digit = Character.digit(sid.charAt(pos), radix);
+          if (digit < 0 || number > MAX_AUTHORITY) {
+            throw invalid(sid);
+          }
+          number = number * radix + digit;
+          pos++;
+        }
+        if (pos == start) {
+          throw invalid(sid);
+        }
+        pos++;
+        if (part == -2) {
+          if (number > 0xFF) {
+            throw invalid(sid);
+          }
+          revision = (int) number;
+        } else if (part == -1) {
+          if (number > MAX_AUTHORITY) {
+            throw invalid(sid);
+          }
+          authority = number;
+        } else {
+          if (number > MAX_SUB_AUTHORITY) {
+            throw invalid(sid);
+          }
+          subAuthorities[part] = (int) number;
+        }
+      }
+      return new Binary(revision, authority, subAuthorities);
+    }
+
+    /**
+     * Decodes the raw active directory value of the attribute {@code objectSid}: the revision,
+     * the number of sub-authorities, the identifier authority (48 bit, big-endian) and the
+     * sub-authorities (32 bit each, little-endian).
+     *
+     * @param objectSid the raw value of the attribute {@code objectSid}
+     * @return the binary form
+     * @throws IllegalArgumentException if the bytes are not a valid SID
+     */
+    public static Binary decode(byte[] objectSid) {
+      if (objectSid == null || objectSid.length < 8) {
+        throw new IllegalArgumentException("Object SID must have at least 8 bytes.");
+      }
+      int count = objectSid[1] & 0xFF;
+      if (count > MAX_SUB_AUTHORITIES || objectSid.length != 8 + 4 * count) {
+        throw new IllegalArgumentException("Object SID has an invalid length.");
+      }
+      long authority = 0L;
+      for (int i = 2; i < 8; i++) {
+        authority = (authority << 8) | (objectSid[i] & 0xFF);
+      }
+      int[] subAuthorities = new int[count];
+      for (int i = 0; i < count; i++) {
+        int offset = 8 + 4 * i;
+        subAuthorities[i] = (objectSid[offset] & 0xFF)
+            | (objectSid[offset + 1] & 0xFF) << 8
+            | (objectSid[offset + 2] & 0xFF) << 16
+            | (objectSid[offset + 3] & 0xFF) << 24;
+      }
+      return new Binary(objectSid[0] & 0xFF, authority, subAuthorities);
+    }
+
+    /**
+     * Encodes this SID into the raw active directory value of the attribute {@code objectSid}.
+     *
+     * @return the raw value of the attribute {@code objectSid}
+     */
+    public byte[] encode() {
+      byte[] objectSid = new byte[8 + 4 * subAuthorities.length];
+      objectSid[0] = (byte) revision;
+      objectSid[1] = (byte) subAuthorities.length;
+      for (int i = 7; i >= 2; i--) {
+        objectSid[i] = (byte) (authority >>> (8 * (7 - i)));
+      }
+      for (int i = 0; i < subAuthorities.length; i++) {
+        int offset = 8 + 4 * i;
+        int subAuthority = subAuthorities[i];
+        objectSid[offset] = (byte) subAuthority;
+        objectSid[offset + 1] = (byte) (subAuthority >>> 8);
+        objectSid[offset + 2] = (byte) (subAuthority >>> 16);
+        objectSid[offset + 3] = (byte) (subAuthority >>> 24);
+      }
+      return objectSid;
+    }
+
+    /**
+     * Gets revision.
+     *
+     * @return the revision
+     */
+    public int getRevision() {
+      return revision;
+    }
+
+    /**
+     * Gets the identifier authority (48 bit).
+     *
+     * @return the identifier authority
+     */
+    public long getAuthority() {
+      return authority;
+    }
+
+    /**
+     * Gets the number of sub-authorities.
+     *
+     * @return the number of sub-authorities
+     */
+    public int getSubAuthorityCount() {
+      return subAuthorities.length;
+    }
+
+    /**
+     * Gets the sub-authority (unsigned 32 bit) at the given index.
+     *
+     * @param index the index
+     * @return the sub-authority
+     */
+    public long getSubAuthority(int index) {
+      return subAuthorities[index] & MAX_SUB_AUTHORITY;
+    }
+
+    /**
+     * Gets the relative identifier (the last sub-authority), for example {@code 512} of the domain
+     * admins group.
+     *
+     * @return the relative identifier or {@code -1}, if there are no sub-authorities
+     */
+    public long getRid() {
+      return subAuthorities.length > 0 ? getSubAuthority(subAuthorities.length - 1) : -1L;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Binary)) {
+        return false;
+      }
+      Binary other = (Binary) o;
+      return hashCode == other.hashCode
+          && revision == other.revision
+          && authority == other.authority
+          && Arrays.equals(subAuthorities, other.subAuthorities);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    /**
+     * Returns the string form of the SID. An identifier authority that doesn't fit into 32 bit
+     * is written as hex number.
+     *
+     * @return the string form of the SID
+     */
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder(16 + 11 * subAuthorities.length)
+          .append("S-").append(revision).append('-');
+      if (authority > MAX_SUB_AUTHORITY) {
+        sb.append("0x").append(Long.toHexString(authority).toUpperCase(Locale.ROOT));
+      } else {
+        sb.append(authority);
+      }
+      for (int i = 0; i < subAuthorities.length; i++) {
+        sb.append('-').append(getSubAuthority(i));
+      }
+      return sb.toString();
+    }
+
+    private static IllegalArgumentException invalid(CharSequence sid) {
+      return new IllegalArgumentException("SID [" + sid + "] is not valid.");
+    }
+  }
+
 }
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The sort order compiler parses a sort order (like {@link DhcpLease#SORT_ORDER_BEGIN_HOSTNAME})
+ * once into a comparator and caches it. The properties are read with method references, not with
+ * reflection.
+ *
+ * <p>The sort order consists of fields that are separated by {@code |}. A field has the format
+ * {@code property[,asc|desc[,ignoreCase[,nullIsFirst]]]}, for example
+ * {@code begin,desc|hostname,asc,true,false}. The default is ascending, case insensitive and
+ * {@code null} values last.
+ *
+ * @param <T> the type of the entities to sort
+ * @author Christian Bremer
+ */
+public final class SortOrderCompiler<T> {
+
+  /**
+   * The sort order compiler of domain users.
+   */
+  public static final SortOrderCompiler<DomainUser> DOMAIN_USER = new Builder<DomainUser>()
+      .add("distinguishedName", DomainUser::getDistinguishedName)
+      .add("created", DomainUser::getCreated)
+      .add("modified", DomainUser::getModified)
+      .add("userName", DomainUser::getUserName)
+      .add("enabled", DomainUser::getEnabled)
+      .add("firstName", DomainUser::getFirstName)
+      .add("lastName", DomainUser::getLastName)
+      .add("displayName", DomainUser::getDisplayName)
+      .add("email", DomainUser::getEmail)
+      .add("telephoneNumber", DomainUser::getTelephoneNumber)
+      .add("mobile", DomainUser::getMobile)
+      .add("description", DomainUser::getDescription)
+      .add("homeDirectory", DomainUser::getHomeDirectory)
+      .add("unixHomeDirectory", DomainUser::getUnixHomeDirectory)
+      .add("loginShell", DomainUser::getLoginShell)
+      .add("lastLogon", DomainUser::getLastLogon)
+      .add("logonCount", DomainUser::getLogonCount)
+      .add("passwordLastSet", DomainUser::getPasswordLastSet)
+      .build();
+
+  /**
+   * The sort order compiler of domain groups.
+   */
+  public static final SortOrderCompiler<DomainGroup> DOMAIN_GROUP = new Builder<DomainGroup>()
+      .add("distinguishedName", DomainGroup::getDistinguishedName)
+      .add("created", DomainGroup::getCreated)
+      .add("modified", DomainGroup::getModified)
+      .add("name", DomainGroup::getName)
+      .add("description", DomainGroup::getDescription)
+      .add("memberCount", DomainGroup::getMemberCount)
+      .build();
+
+  /**
+   * The sort order compiler of dhcp leases.
+   */
+  public static final SortOrderCompiler<DhcpLease> DHCP_LEASE = new Builder<DhcpLease>()
+      .add("mac", DhcpLease::getMac)
+      .add("ip", DhcpLease::getIp)
+      .add("hostname", DhcpLease::getHostname)
+      .add("begin", DhcpLease::getBegin)
+      .add("end", DhcpLease::getEnd)
+      .add("manufacturer", DhcpLease::getManufacturer)
+      .build();
+
+  /**
+   * The sort order compiler of dns records.
+   */
+  public static final SortOrderCompiler<DnsRecord> DNS_RECORD = new Builder<DnsRecord>()
+      .add("recordType", DnsRecord::getRecordType)
+      .add("recordValue", DnsRecord::getRecordValue)
+      .add("correlatedRecordValue", DnsRecord::getCorrelatedRecordValue)
+      .add("version", DnsRecord::getVersion)
+      .add("serial", DnsRecord::getSerial)
+      .add("ttlSeconds", DnsRecord::getTtlSeconds)
+      .add("timeStamp", DnsRecord::getTimeStamp)
+      .build();
+
+  private static final int MAX_CACHE_SIZE = 64;
+
+  private final Map<String, Function<T, ? extends Comparable<?>>> properties;
+
+  private final Map<String, Comparator<T>> cache = new ConcurrentHashMap<>();
+
+  private SortOrderCompiler(Map<String, Function<T, ? extends Comparable<?>>> properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * Gets the comparator of the given sort order.
+   *
+   * @param sortOrder the sort order
+   * @return the comparator
+   * @throws IllegalArgumentException if the sort order contains an unknown property or is
+   *     malformed
+   */
+  public Comparator<T> compile(String sortOrder) {
+    if (sortOrder == null || sortOrder.trim().isEmpty()) {
+      throw new IllegalArgumentException("Sort order must be present.");
+    }
+    Comparator<T> comparator = cache.get(sortOrder);
+    if (comparator == null) {
+      comparator = parse(sortOrder);
+      if (cache.size() < MAX_CACHE_SIZE) {
+        cache.put(sortOrder, comparator);
+      }
+    }
+    return comparator;
+  }
+
+  /**
+   * Gets the names of the sortable properties.
+   *
+   * @return the names of the sortable properties
+   */
+  public Set<String> getProperties() {
+    return properties.keySet();
+  }
+
+  private Comparator<T> parse(String sortOrder) {
+    Comparator<T> result = null;
+    for (String field : sortOrder.split("\\|")) {
+      Comparator<T> comparator = parseField(field.trim(), sortOrder);
+      result = result == null ? comparator : result.thenComparing(comparator);
+    }
+    return result;
+  }
+
+  private Comparator<T> parseField(String field, String sortOrder) {
+    String[] parts = field.split(",");
+    if (parts.length > 4) {
+      throw new IllegalArgumentException("Sort order [" + sortOrder + "] is malformed.");
+    }
+    String property = parts[0].trim();
+    Function<T, ? extends Comparable<?>> keyExtractor = properties.get(property);
+    if (keyExtractor == null) {
+      throw new IllegalArgumentException(
+          "Sort order [" + sortOrder + "] contains unknown property [" + property + "].");
+    }
+    boolean desc = parts.length > 1 && parseDirection(parts[1].trim(), sortOrder);
+    boolean ignoreCase = parts.length <= 2 || Boolean.parseBoolean(parts[2].trim());
+    boolean nullIsFirst = parts.length > 3 && Boolean.parseBoolean(parts[3].trim());
+    Comparator<Comparable<?>> valueComparator = valueComparator(ignoreCase, desc);
+    valueComparator = nullIsFirst
+        ? Comparator.nullsFirst(valueComparator)
+        : Comparator.nullsLast(valueComparator);
+    return Comparator.comparing(keyExtractor, valueComparator);
+  }
+
+  private static boolean parseDirection(String direction, String sortOrder) {
+    switch (direction.toLowerCase(Locale.ROOT)) {
+      case "":
+      case "asc":
+        return false;
+      case "desc":
+        return true;
+      default:
+        throw new IllegalArgumentException("Sort order [" + sortOrder + "] is malformed.");
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static Comparator<Comparable<?>> valueComparator(boolean ignoreCase, boolean desc) {
+    Comparator<Comparable<?>> comparator = (a, b) -> {
+      if (ignoreCase && a instanceof String && b instanceof String) {
+        return ((String) a).compareToIgnoreCase((String) b);
+      }
+      return ((Comparable) a).compareTo(b);
+    };
+    return desc ? comparator.reversed() : comparator;
+  }
+
+  /**
+   * The builder of a sort order compiler.
+   *
+   * @param <T> the type of the entities to sort
+   */
+  private static class Builder<T> {
+
+    private final Map<String, Function<T, ? extends Comparable<?>>> properties
+        = new LinkedHashMap<>();
+
+    Builder<T> add(String property, Function<T, ? extends Comparable<?>> keyExtractor) {
+      properties.put(property, keyExtractor);
+      return this;
+    }
+
+    SortOrderCompiler<T> build() {
+      return new SortOrderCompiler<>(Collections.unmodifiableMap(properties));
+    }
+  }
+
+}
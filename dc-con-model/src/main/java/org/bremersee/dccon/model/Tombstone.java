@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import javax.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * The tombstone of a deleted entity.
+ *
+ * @author Christian Bremer
+ */
+@Schema(description = "The tombstone of a deleted entity.")
+@Validated
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@Setter
+@EqualsAndHashCode
+@ToString
+@NoArgsConstructor
+public class Tombstone implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  @Schema(
+      description = "The name of the deleted entity.",
+      required = true,
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty(value = "name", required = true)
+  @NotNull
+  private String name;
+
+  @Schema(
+      description = "The distinguished name of the deleted entity.",
+      accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("distinguishedName")
+  private String distinguishedName;
+
+  @Schema(description = "The windows/samba SID.", accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("sid")
+  private Sid sid;
+
+  @Schema(description = "The deletion date.", accessMode = AccessMode.READ_ONLY)
+  @JsonProperty("deleted")
+  private OffsetDateTime deleted;
+
+  /**
+   * Instantiates a new tombstone.
+   *
+   * @param name the name
+   * @param distinguishedName the distinguished name
+   * @param sid the windows/samba SID
+   * @param deleted the deletion date
+   */
+  @SuppressWarnings("unused")
+  @Builder(toBuilder = true)
+  public Tombstone(String name, String distinguishedName, Sid sid, OffsetDateTime deleted) {
+    this.name = name;
+    this.distinguishedName = distinguishedName;
+    this.sid = sid;
+    this.deleted = deleted;
+  }
+}
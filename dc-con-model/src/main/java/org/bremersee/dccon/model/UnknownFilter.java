@@ -16,8 +16,6 @@
 
 package org.bremersee.dccon.model;
 
-import java.util.Optional;
-
 /**
  * The unknown filter.
  *
@@ -47,19 +45,17 @@ public enum UnknownFilter {
    * @return the boolean
    */
   public boolean matches(DnsRecord dnsRecord) {
-    return Optional.ofNullable(dnsRecord)
-        .map(DnsRecord::getRecordType)
-        .map(recordType -> {
-          switch (this) {
-            case NO_UNKNOWN:
-              return !recordType.equalsIgnoreCase("UNKNOWN");
-            case UNKNOWN:
-              return recordType.equalsIgnoreCase("UNKNOWN");
-            default:
-              return true;
-          }
-        })
-        .orElse(false);
+    if (dnsRecord == null || dnsRecord.getRecordType() == null) {
+      return false;
+    }
+    switch (this) {
+      case NO_UNKNOWN:
+        return dnsRecord.getDnsRecordType() != DnsRecordType.UNKNOWN;
+      case UNKNOWN:
+        return dnsRecord.getDnsRecordType() == DnsRecordType.UNKNOWN;
+      default:
+        return true;
+    }
   }
 
 }
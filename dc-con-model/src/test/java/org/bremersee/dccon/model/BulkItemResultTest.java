@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.bremersee.exception.model.RestApiException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The bulk item result test.
+ *
+ * @author Christian Bremer
+ */
+class BulkItemResultTest {
+
+  /**
+   * Gets index.
+   */
+  @Test
+  void getIndex() {
+    BulkItemResult model = new BulkItemResult();
+    model.setIndex(7);
+    assertEquals(7, model.getIndex());
+
+    model = BulkItemResult.builder().index(7).build();
+    assertEquals(7, model.getIndex());
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().index(7).build());
+
+    assertTrue(model.toString().contains("7"));
+  }
+
+  /**
+   * Gets name.
+   */
+  @Test
+  void getName() {
+    String value = UUID.randomUUID().toString();
+    BulkItemResult model = new BulkItemResult();
+    model.setName(value);
+    assertEquals(value, model.getName());
+
+    model = BulkItemResult.builder().name(value).build();
+    assertEquals(value, model.getName());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().name(value).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets status.
+   */
+  @Test
+  void getStatus() {
+    BulkItemResult model = new BulkItemResult();
+    assertFalse(model.isSuccessful());
+    model.setStatus(201);
+    assertEquals(201, model.getStatus());
+    assertTrue(model.isSuccessful());
+
+    model = BulkItemResult.builder().status(400).build();
+    assertEquals(400, model.getStatus());
+    assertFalse(model.isSuccessful());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().status(400).build());
+
+    assertTrue(model.toString().contains("400"));
+  }
+
+  /**
+   * Gets error.
+   */
+  @Test
+  void getError() {
+    String value = UUID.randomUUID().toString();
+    RestApiException error = new RestApiException();
+    error.setMessage(value);
+    BulkItemResult model = new BulkItemResult();
+    model.setError(error);
+    assertEquals(error, model.getError());
+
+    model = BulkItemResult.builder().error(error).build();
+    assertEquals(error, model.getError());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().error(error).build());
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The continuation token test.
+ *
+ * @author Christian Bremer
+ */
+class ContinuationTokenTest {
+
+  /**
+   * Encode and decode.
+   */
+  @Test
+  void encodeAndDecode() {
+    String value = UUID.randomUUID().toString();
+    ContinuationToken model = ContinuationToken.builder()
+        .sort(DomainUser.DEFAULT_SORT_ORDER)
+        .lastKey(value)
+        .build();
+    String token = model.encode();
+    assertFalse(token.contains(value));
+
+    ContinuationToken actual = ContinuationToken.decode(token);
+    assertEquals(model, actual);
+    assertEquals(DomainUser.DEFAULT_SORT_ORDER, actual.getSort());
+    assertEquals(value, actual.getLastKey());
+    assertTrue(actual.hasSameSortOrder(DomainUser.DEFAULT_SORT_ORDER));
+    assertFalse(actual.hasSameSortOrder("userName,desc"));
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model.toBuilder().build());
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Is sorted by key.
+   */
+  @Test
+  void isSortedByKey() {
+    assertTrue(ContinuationToken.isSortedByKey(DomainUser.DEFAULT_SORT_ORDER, "userName"));
+    assertTrue(ContinuationToken.isSortedByKey("userName,desc", "userName"));
+    assertTrue(ContinuationToken.isSortedByKey(" userName ,asc|email", "userName"));
+    assertFalse(ContinuationToken.isSortedByKey("lastName|userName", "userName"));
+    assertFalse(ContinuationToken.isSortedByKey("userNameX", "userName"));
+    assertFalse(ContinuationToken.isSortedByKey(null, "userName"));
+  }
+
+  /**
+   * Decode invalid token.
+   */
+  @Test
+  void decodeInvalidToken() {
+    assertThrows(IllegalArgumentException.class, () -> ContinuationToken.decode(null));
+    assertThrows(IllegalArgumentException.class, () -> ContinuationToken.decode(""));
+    assertThrows(IllegalArgumentException.class, () -> ContinuationToken.decode("#!?"));
+    assertThrows(IllegalArgumentException.class, () -> ContinuationToken.decode("dXNlck5hbWU"));
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The dhcp lease event test.
+ *
+ * @author Christian Bremer
+ */
+class DhcpLeaseEventTest {
+
+  /**
+   * Gets type.
+   */
+  @Test
+  void getType() {
+    DhcpLeaseEventType value = DhcpLeaseEventType.RENEW;
+    DhcpLeaseEvent model = new DhcpLeaseEvent();
+    model.setType(value);
+    assertEquals(value, model.getType());
+
+    model = DhcpLeaseEvent.builder().type(value).build();
+    assertEquals(value, model.getType());
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().type(value).build());
+
+    assertTrue(model.toString().contains(value.name()));
+  }
+
+  /**
+   * Gets lease.
+   */
+  @Test
+  void getLease() {
+    DhcpLease value = DhcpLease.builder()
+        .hostname(UUID.randomUUID().toString())
+        .build();
+    DhcpLeaseEvent model = new DhcpLeaseEvent();
+    model.setLease(value);
+    assertEquals(value, model.getLease());
+
+    model = DhcpLeaseEvent.builder().lease(value).build();
+    assertEquals(value, model.getLease());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().lease(value).build());
+
+    assertTrue(model.toString().contains(value.getHostname()));
+  }
+}
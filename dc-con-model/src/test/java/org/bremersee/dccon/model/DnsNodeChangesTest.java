@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The dns node changes test.
+ *
+ * @author Christian Bremer
+ */
+class DnsNodeChangesTest {
+
+  /**
+   * Gets added.
+   */
+  @Test
+  void getAdded() {
+    String value = UUID.randomUUID().toString();
+    List<DnsNode> values = Collections.singletonList(DnsNode.builder().name(value).build());
+    DnsNodeChanges model = new DnsNodeChanges();
+    assertTrue(model.getAdded().isEmpty());
+    model.setAdded(values);
+    assertEquals(values, model.getAdded());
+
+    model = DnsNodeChanges.builder().added(values).build();
+    assertEquals(values, model.getAdded());
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().added(values).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets changed.
+   */
+  @Test
+  void getChanged() {
+    String value = UUID.randomUUID().toString();
+    List<DnsNode> values = Collections.singletonList(DnsNode.builder().name(value).build());
+    DnsNodeChanges model = new DnsNodeChanges();
+    assertTrue(model.getChanged().isEmpty());
+    model.setChanged(values);
+    assertEquals(values, model.getChanged());
+
+    model = DnsNodeChanges.builder().changed(values).build();
+    assertEquals(values, model.getChanged());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().changed(values).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets removed.
+   */
+  @Test
+  void getRemoved() {
+    String value = UUID.randomUUID().toString();
+    List<Tombstone> values = Collections.singletonList(Tombstone.builder().name(value).build());
+    DnsNodeChanges model = new DnsNodeChanges();
+    assertTrue(model.getRemoved().isEmpty());
+    model.setRemoved(values);
+    assertEquals(values, model.getRemoved());
+
+    model = DnsNodeChanges.builder().removed(values).build();
+    assertEquals(values, model.getRemoved());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().removed(values).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets serial.
+   */
+  @Test
+  void getSerial() {
+    DnsNodeChanges model = new DnsNodeChanges();
+    model.setSerial(4711L);
+    assertEquals(4711L, model.getSerial());
+
+    model = DnsNodeChanges.builder().serial(4711L).build();
+    assertEquals(4711L, model.getSerial());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().serial(4711L).build());
+
+    assertTrue(model.toString().contains("4711"));
+  }
+
+  /**
+   * Is serial after (RFC 1982).
+   */
+  @Test
+  void isSerialAfter() {
+    assertTrue(DnsNodeChanges.isSerialAfter(2L, 1L));
+    assertFalse(DnsNodeChanges.isSerialAfter(1L, 2L));
+    assertFalse(DnsNodeChanges.isSerialAfter(1L, 1L));
+    assertTrue(DnsNodeChanges.isSerialAfter(1L, DnsNodeChanges.MAX_SERIAL));
+    assertFalse(DnsNodeChanges.isSerialAfter(DnsNodeChanges.MAX_SERIAL, 1L));
+    assertTrue(DnsNodeChanges.isSerialAfter(0x7FFF_FFFFL, 0L));
+    assertFalse(DnsNodeChanges.isSerialAfter(0x8000_0000L, 0L));
+    assertFalse(DnsNodeChanges.isSerialAfter(0L, 0x8000_0000L));
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The dns node delete progress test.
+ *
+ * @author Christian Bremer
+ */
+class DnsNodeDeleteProgressTest {
+
+  /**
+   * Gets node name.
+   */
+  @Test
+  void getNodeName() {
+    String value = UUID.randomUUID().toString();
+    DnsNodeDeleteProgress model = new DnsNodeDeleteProgress();
+    model.setNodeName(value);
+    assertEquals(value, model.getNodeName());
+
+    model = DnsNodeDeleteProgress.builder().nodeName(value).build();
+    assertEquals(value, model.getNodeName());
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().nodeName(value).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets deleted.
+   */
+  @Test
+  void getDeleted() {
+    DnsNodeDeleteProgress model = new DnsNodeDeleteProgress();
+    model.setDeleted(4711);
+    assertEquals(4711, model.getDeleted());
+
+    model = DnsNodeDeleteProgress.builder().deleted(4711).build();
+    assertEquals(4711, model.getDeleted());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().deleted(4711).build());
+
+    assertTrue(model.toString().contains("4711"));
+  }
+
+  /**
+   * Gets total.
+   */
+  @Test
+  void getTotal() {
+    DnsNodeDeleteProgress model = new DnsNodeDeleteProgress();
+    model.setTotal(4711);
+    assertEquals(4711, model.getTotal());
+
+    model = DnsNodeDeleteProgress.builder().total(4711).build();
+    assertEquals(4711, model.getTotal());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().total(4711).build());
+
+    assertTrue(model.toString().contains("4711"));
+  }
+}
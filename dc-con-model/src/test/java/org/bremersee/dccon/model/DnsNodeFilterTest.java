@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The dns node filter test.
+ *
+ * @author Christian Bremer
+ */
+class DnsNodeFilterTest {
+
+  /**
+   * Gets node names.
+   */
+  @Test
+  void getNodeNames() {
+    String value = UUID.randomUUID().toString();
+    List<String> values = Collections.singletonList(value);
+    DnsNodeFilter model = new DnsNodeFilter();
+    assertTrue(model.getNodeNames().isEmpty());
+    model.setNodeNames(values);
+    assertEquals(values, model.getNodeNames());
+
+    model = DnsNodeFilter.builder().nodeNames(values).build();
+    assertEquals(values, model.getNodeNames());
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().nodeNames(values).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets prefix.
+   */
+  @Test
+  void getPrefix() {
+    String value = UUID.randomUUID().toString();
+    DnsNodeFilter model = new DnsNodeFilter();
+    model.setPrefix(value);
+    assertEquals(value, model.getPrefix());
+
+    model = DnsNodeFilter.builder().prefix(value).build();
+    assertEquals(value, model.getPrefix());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().prefix(value).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets record type.
+   */
+  @Test
+  void getRecordType() {
+    String value = "CNAME";
+    DnsNodeFilter model = new DnsNodeFilter();
+    model.setRecordType(value);
+    assertEquals(value, model.getRecordType());
+
+    model = DnsNodeFilter.builder().recordType(value).build();
+    assertEquals(value, model.getRecordType());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().recordType(value).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Matches record type.
+   */
+  @Test
+  void matchesRecordType() {
+    DnsRecord a = DnsRecord.builder().recordType("A").recordValue("192.168.1.123").build();
+    DnsRecord caa = DnsRecord.builder().recordType("CAA").recordValue("0 issue ca").build();
+    assertTrue(new DnsNodeFilter().matchesRecordType(a));
+    assertTrue(DnsNodeFilter.builder().recordType("a").build().matchesRecordType(a));
+    assertFalse(DnsNodeFilter.builder().recordType("a").build().matchesRecordType(caa));
+    assertTrue(DnsNodeFilter.builder().recordType("caa").build().matchesRecordType(caa));
+    assertFalse(DnsNodeFilter.builder().recordType("CAA").build().matchesRecordType(a));
+    assertFalse(DnsNodeFilter.builder().recordType("A").build().matchesRecordType(null));
+  }
+
+  /**
+   * Gets time stamp before.
+   */
+  @Test
+  void getTimeStampBefore() {
+    OffsetDateTime value = OffsetDateTime.now();
+    DnsNodeFilter model = new DnsNodeFilter();
+    model.setTimeStampBefore(value);
+    assertEquals(value, model.getTimeStampBefore());
+
+    model = DnsNodeFilter.builder().timeStampBefore(value).build();
+    assertEquals(value, model.getTimeStampBefore());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().timeStampBefore(value).build());
+
+    assertTrue(model.toString().contains(value.toString()));
+  }
+
+  /**
+   * Gets unknown filter.
+   */
+  @Test
+  void getUnknownFilter() {
+    UnknownFilter value = UnknownFilter.UNKNOWN;
+    DnsNodeFilter model = new DnsNodeFilter();
+    model.setUnknownFilter(value);
+    assertEquals(value, model.getUnknownFilter());
+
+    model = DnsNodeFilter.builder().unknownFilter(value).build();
+    assertEquals(value, model.getUnknownFilter());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().unknownFilter(value).build());
+
+    assertTrue(model.toString().contains(value.name()));
+  }
+
+  /**
+   * Is not empty.
+   */
+  @Test
+  void isNotEmpty() {
+    assertFalse(new DnsNodeFilter().isNotEmpty());
+    assertFalse(DnsNodeFilter.builder().prefix(" ").build().isNotEmpty());
+    assertFalse(DnsNodeFilter.builder().recordType(" ").build().isNotEmpty());
+    assertFalse(DnsNodeFilter.builder().unknownFilter(UnknownFilter.ALL).build().isNotEmpty());
+    assertFalse(DnsNodeFilter.builder()
+        .unknownFilter(UnknownFilter.NO_UNKNOWN)
+        .build()
+        .isNotEmpty());
+    assertTrue(DnsNodeFilter.builder()
+        .unknownFilter(UnknownFilter.UNKNOWN)
+        .build()
+        .isNotEmpty());
+    assertTrue(DnsNodeFilter.builder()
+        .nodeNames(Collections.singletonList("pc01"))
+        .build()
+        .isNotEmpty());
+    assertTrue(DnsNodeFilter.builder().prefix("pc").build().isNotEmpty());
+    assertTrue(DnsNodeFilter.builder().recordType("caa").build().isNotEmpty());
+    assertTrue(DnsNodeFilter.builder()
+        .timeStampBefore(OffsetDateTime.now())
+        .build()
+        .isNotEmpty());
+  }
+
+}
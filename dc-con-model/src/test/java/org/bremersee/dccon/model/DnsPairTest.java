@@ -18,6 +18,7 @@ package org.bremersee.dccon.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.UUID;
@@ -102,4 +103,40 @@ class DnsPairTest {
     assertTrue(model.toString().contains("true"));
 
   }
+
+  /**
+   * Gets query.
+   */
+  @Test
+  void getQuery() {
+    String value = UUID.randomUUID().toString();
+    DnsPair model = new DnsPair();
+    model.setQuery(value);
+    assertEquals(value, model.getQuery());
+
+    model = DnsPair.builder().query(value).build();
+    assertEquals(value, model.getQuery());
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().query(value).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Not found.
+   */
+  @Test
+  void notFound() {
+    String value = UUID.randomUUID().toString();
+    DnsPair model = DnsPair.notFound(value);
+    assertEquals(value, model.getQuery());
+    assertEquals(false, model.getNodeExists());
+    assertNull(model.getZoneName());
+    assertNull(model.getNode());
+    assertEquals(DnsPair.builder().query(value).nodeExists(false).build(), model);
+  }
+
 }
\ No newline at end of file
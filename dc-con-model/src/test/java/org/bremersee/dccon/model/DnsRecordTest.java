@@ -18,8 +18,12 @@ package org.bremersee.dccon.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.Base64;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 
@@ -219,6 +223,78 @@ class DnsRecordTest {
         .compareTo(DnsRecord.builder().recordType("B").build()) < 0);
     assertTrue(DnsRecord.builder().recordType("A").recordValue("A").build()
         .compareTo(DnsRecord.builder().recordType("A").recordValue("B").build()) < 0);
+    assertTrue(DnsRecord.builder().recordType("cname").build()
+        .compareTo(DnsRecord.builder().recordType("PTR").build()) < 0);
+    assertTrue(DnsRecord.builder().recordType("HINFO").build()
+        .compareTo(DnsRecord.builder().recordType("MX").build()) < 0);
+    assertEquals(0, DnsRecord.builder().recordType("Srv").build()
+        .compareTo(DnsRecord.builder().recordType("SRV").build()));
   }
 
-}
\ No newline at end of file
+  /**
+   * Gets dns record type.
+   */
+  @Test
+  void getDnsRecordType() {
+    assertNull(new DnsRecord().getDnsRecordType());
+    assertEquals(
+        DnsRecordType.AAAA,
+        DnsRecord.builder().recordType("aaaa").build().getDnsRecordType());
+
+    DnsRecord model = DnsRecord.builder().recordType("A").build();
+    assertEquals(DnsRecordType.A, model.getDnsRecordType());
+    model.setRecordType("MX");
+    assertEquals(DnsRecordType.MX, model.getDnsRecordType());
+    assertEquals(model, DnsRecord.builder().recordType("MX").build());
+    assertFalse(model.toString().contains("dnsRecordType"));
+  }
+
+  /**
+   * Gets the dns record type of an unknown record type.
+   */
+  @Test
+  void getDnsRecordTypeOfUnknownType() {
+    DnsRecord model = DnsRecord.builder().recordType("CAA").build();
+    assertNull(model.getDnsRecordType());
+    assertNull(model.getDnsRecordType());
+    model.setRecordType("A");
+    assertEquals(DnsRecordType.A, model.getDnsRecordType());
+    model.setRecordType("HINFO");
+    assertNull(model.getDnsRecordType());
+    assertEquals(model, DnsRecord.builder().recordType("HINFO").build());
+    assertFalse(model.toString().contains("dnsRecordTypeResolved"));
+  }
+
+  /**
+   * Record raw value is omitted in json without raw value (request with {@code raw=false}) and
+   * present with raw value (request with {@code raw=true}).
+   *
+   * @throws Exception if the json processing fails
+   */
+  @Test
+  void recordRawValueInJson() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    DnsRecord model = DnsRecord.builder()
+        .recordType("A")
+        .recordValue("192.168.1.10")
+        .timeStamp(OffsetDateTime.now())
+        .build();
+
+    JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(model));
+    assertFalse(json.has("recordRawValue"));
+    assertEquals("192.168.1.10", json.get("recordValue").asText());
+
+    byte[] value = "raw".getBytes(StandardCharsets.UTF_8);
+    json = objectMapper.readTree(objectMapper.writeValueAsString(model.toBuilder()
+        .recordRawValue(value)
+        .build()));
+    assertTrue(json.has("recordRawValue"));
+    assertEquals(Base64.getEncoder().encodeToString(value), json.get("recordRawValue").asText());
+
+    DnsRecord actual = objectMapper.readValue(
+        objectMapper.writeValueAsString(model.toBuilder().recordRawValue(value).build()),
+        DnsRecord.class);
+    assertArrayEquals(value, actual.getRecordRawValue());
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The dns record type test.
+ *
+ * @author Christian Bremer
+ */
+class DnsRecordTypeTest {
+
+  /**
+   * From value.
+   */
+  @Test
+  void fromValue() {
+    for (DnsRecordType type : DnsRecordType.values()) {
+      assertEquals(type, DnsRecordType.fromValue(type.name()));
+      assertEquals(type, DnsRecordType.fromValue(type.name().toLowerCase()));
+    }
+    assertEquals(DnsRecordType.CNAME, DnsRecordType.fromValue("CName"));
+    assertEquals(DnsRecordType.CNAME, DnsRecordType.fromValue("cName"));
+    assertNull(DnsRecordType.fromValue("HINFO"));
+    assertNull(DnsRecordType.fromValue(null));
+  }
+
+  /**
+   * Ordinal order is alphabetical order.
+   */
+  @Test
+  void ordinalOrderIsAlphabeticalOrder() {
+    DnsRecordType[] types = DnsRecordType.values();
+    for (int i = 1; i < types.length; i++) {
+      assertTrue(types[i - 1].name().compareTo(types[i].name()) < 0);
+    }
+  }
+
+}
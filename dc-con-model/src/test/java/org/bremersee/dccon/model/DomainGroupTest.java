@@ -18,6 +18,8 @@ package org.bremersee.dccon.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -114,4 +116,44 @@ class DomainGroupTest {
 
     assertTrue(model.toString().contains(value));
   }
+
+  /**
+   * Gets member count.
+   */
+  @Test
+  void getMemberCount() {
+    DomainGroup model = new DomainGroup();
+    model.setMemberCount(42);
+    assertEquals(42, model.getMemberCount());
+
+    model = DomainGroup.builder().memberCount(42).build();
+    assertEquals(42, model.getMemberCount());
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().memberCount(42).build());
+    assertNotEquals(model, model.toBuilder().memberCount(43).build());
+
+    assertTrue(model.toString().contains("42"));
+  }
+
+  /**
+   * Member count is in the json, if the members are not loaded.
+   *
+   * @throws Exception if the json processing fails
+   */
+  @Test
+  void memberCountWithoutMembersInJson() throws Exception {
+    ObjectMapper objectMapper = new ObjectMapper();
+    DomainGroup model = DomainGroup.builder().name("staff").memberCount(42).build();
+    JsonNode json = objectMapper.valueToTree(model);
+    assertFalse(json.has("members"));
+    assertEquals(42, json.get("memberCount").asInt());
+
+    assertTrue(model.getMembers().isEmpty());
+    json = objectMapper.valueToTree(model);
+    assertEquals(0, json.get("members").size());
+    assertEquals(42, json.get("memberCount").asInt());
+  }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The domain user changes test.
+ *
+ * @author Christian Bremer
+ */
+class DomainUserChangesTest {
+
+  /**
+   * Gets changed.
+   */
+  @Test
+  void getChanged() {
+    String value = UUID.randomUUID().toString();
+    List<DomainUser> values = Collections.singletonList(DomainUser.builder()
+        .userName(value)
+        .build());
+    DomainUserChanges model = new DomainUserChanges();
+    assertTrue(model.getChanged().isEmpty());
+    model.setChanged(values);
+    assertEquals(values, model.getChanged());
+
+    model = DomainUserChanges.builder().changed(values).build();
+    assertEquals(values, model.getChanged());
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().changed(values).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets deleted.
+   */
+  @Test
+  void getDeleted() {
+    String value = UUID.randomUUID().toString();
+    List<Tombstone> values = Collections.singletonList(Tombstone.builder()
+        .name(value)
+        .build());
+    DomainUserChanges model = new DomainUserChanges();
+    assertTrue(model.getDeleted().isEmpty());
+    model.setDeleted(values);
+    assertEquals(values, model.getDeleted());
+
+    model = DomainUserChanges.builder().deleted(values).build();
+    assertEquals(values, model.getDeleted());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().deleted(values).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets watermark.
+   */
+  @Test
+  void getWatermark() {
+    String value = UUID.randomUUID().toString();
+    DomainUserChanges model = new DomainUserChanges();
+    model.setWatermark(value);
+    assertEquals(value, model.getWatermark());
+
+    model = DomainUserChanges.builder().watermark(value).build();
+    assertEquals(value, model.getWatermark());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().watermark(value).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The domain user lookup test.
+ *
+ * @author Christian Bremer
+ */
+class DomainUserLookupTest {
+
+  /**
+   * Gets user name.
+   */
+  @Test
+  void getUserName() {
+    String value = UUID.randomUUID().toString();
+    DomainUserLookup model = new DomainUserLookup();
+    model.setUserName(value);
+    assertEquals(value, model.getUserName());
+
+    model = DomainUserLookup.builder().userName(value).build();
+    assertEquals(value, model.getUserName());
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().userName(value).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets user.
+   */
+  @Test
+  void getUser() {
+    String value = UUID.randomUUID().toString();
+    DomainUser user = DomainUser.builder().userName(value).build();
+    DomainUserLookup model = new DomainUserLookup();
+    assertNull(model.getUser());
+    model.setUser(user);
+    assertEquals(user, model.getUser());
+
+    model = DomainUserLookup.builder().userName(value).user(user).build();
+    assertEquals(user, model.getUser());
+    assertFalse(model.getNotFound());
+
+    assertEquals(model, model.toBuilder().user(user).build());
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets not found.
+   */
+  @Test
+  void getNotFound() {
+    DomainUserLookup model = new DomainUserLookup();
+    assertFalse(model.getNotFound());
+    model.setNotFound(true);
+    assertTrue(model.getNotFound());
+
+    model = DomainUserLookup.builder().userName("anna").build();
+    assertTrue(model.getNotFound());
+    assertNull(model.getUser());
+
+    assertEquals(model, model.toBuilder().notFound(true).build());
+  }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The entity key test.
+ *
+ * @author Christian Bremer
+ */
+class EntityKeyTest {
+
+  /**
+   * Of domain group.
+   */
+  @Test
+  void ofDomainGroup() {
+    OffsetDateTime modified = OffsetDateTime.now(ZoneOffset.UTC);
+    DomainGroup group = DomainGroup.builder()
+        .distinguishedName("cn=staff,cn=users,dc=example,dc=org")
+        .sid(Sid.builder().value("S-1-5-21-1-2-3-1100").build())
+        .modified(modified)
+        .members(Arrays.asList("anna", "bob"))
+        .build();
+    EntityKey key = group.toEntityKey();
+    assertEquals("cn=staff,cn=users,dc=example,dc=org", key.getIdentity());
+    assertEquals("DomainGroup", key.getType());
+    assertEquals(modified.toInstant(), key.getModified());
+
+    EntityKey projected = group.toBuilder()
+        .distinguishedName("CN=Staff,CN=Users,DC=example,DC=org")
+        .sid(null)
+        .members(null)
+        .modified(modified.withOffsetSameInstant(ZoneOffset.ofHours(2)))
+        .build()
+        .toEntityKey();
+    assertEquals(key, projected);
+    assertEquals(key.hashCode(), projected.hashCode());
+    assertEquals(key, ImmutableDomainGroup.of(group).toEntityKey());
+
+    EntityKey renamed = group.toBuilder()
+        .distinguishedName("cn=employees,cn=users,dc=example,dc=org")
+        .build()
+        .toEntityKey();
+    assertFalse(key.isSameEntity(renamed));
+
+    EntityKey changed = group.toBuilder().modified(modified.plusSeconds(1L)).build().toEntityKey();
+    assertNotEquals(key, changed);
+    assertTrue(key.isSameEntity(changed));
+
+    assertNotEquals(key, null);
+    assertNotEquals(key, new Object());
+    assertEquals(key, key);
+    assertTrue(key.toString().contains("cn=staff"));
+  }
+
+  /**
+   * Of domain user.
+   */
+  @Test
+  void ofDomainUser() {
+    DomainUser user = DomainUser.builder()
+        .distinguishedName("cn=anna,cn=users,dc=example,dc=org")
+        .sid(Sid.builder().value("S-1-5-21-1-2-3-1000").build())
+        .userName("anna")
+        .modified(OffsetDateTime.now())
+        .build();
+    EntityKey key = user.toEntityKey();
+    assertEquals("DomainUser", key.getType());
+    assertEquals(key, ImmutableDomainUser.of(user).toEntityKey());
+    assertEquals(key, user.toBuilder().sid(null).userName(null).build().toEntityKey());
+    assertFalse(key.isSameEntity(DomainGroup.builder()
+        .distinguishedName(user.getDistinguishedName())
+        .modified(user.getModified())
+        .build()
+        .toEntityKey()));
+  }
+
+  /**
+   * Of dns node.
+   */
+  @Test
+  void ofDnsNode() {
+    DnsNode node = DnsNode.builder()
+        .distinguishedName("dc=host,dc=example.org")
+        .name("host")
+        .build();
+    EntityKey key = EntityKey.of(node);
+    assertEquals("dc=host,dc=example.org", key.getIdentity());
+    assertEquals(key, node.toBuilder().name("other").build().toEntityKey());
+    assertEquals(key, ImmutableDnsNode.of(node).toEntityKey());
+
+    DnsZone zone = DnsZone.builder()
+        .distinguishedName("dc=host,dc=example.org")
+        .build();
+    assertFalse(key.isSameEntity(zone.toEntityKey()));
+    assertFalse(key.isSameEntity(null));
+    assertThrows(NullPointerException.class, () -> EntityKey.of(null));
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The entity tags test.
+ *
+ * @author Christian Bremer
+ */
+class EntityTagsTest {
+
+  /**
+   * Of entity.
+   */
+  @Test
+  void ofEntity() {
+    OffsetDateTime modified = OffsetDateTime.now();
+    DomainUser user = DomainUser.builder()
+        .distinguishedName("cn=anna,cn=users,dc=example,dc=org")
+        .modified(modified)
+        .userName("anna")
+        .build();
+    String entityTag = EntityTags.of(user);
+    assertTrue(entityTag.startsWith("W/\"") && entityTag.endsWith("\""));
+    assertEquals(entityTag, EntityTags.of(user.toBuilder().displayName("Anna").build()));
+    assertNotEquals(entityTag, EntityTags.of(user.toBuilder()
+        .modified(modified.plusSeconds(1L))
+        .build()));
+    assertNotEquals(entityTag, EntityTags.of(user, "userName,displayName"));
+    assertNotEquals(entityTag, EntityTags.of((CommonAttributes) null));
+  }
+
+  /**
+   * Of entity with volatile attributes.
+   */
+  @Test
+  void ofEntityWithVolatileAttributes() {
+    DomainUser user = DomainUser.builder()
+        .distinguishedName("cn=anna,cn=users,dc=example,dc=org")
+        .modified(OffsetDateTime.now())
+        .userName("anna")
+        .logonCount(1)
+        .groups(Arrays.asList("staff"))
+        .build();
+    String entityTag = EntityTags.of(user);
+    assertNotEquals(entityTag, EntityTags.of(user.toBuilder().logonCount(2).build()));
+    assertNotEquals(entityTag, EntityTags.of(user.toBuilder()
+        .lastLogon(OffsetDateTime.now())
+        .build()));
+    assertNotEquals(entityTag, EntityTags.of(user.toBuilder()
+        .groups(Arrays.asList("staff", "admins"))
+        .build()));
+  }
+
+  /**
+   * Of entities.
+   */
+  @Test
+  void ofEntities() {
+    DomainGroup g0 = DomainGroup.builder()
+        .distinguishedName("cn=g0,dc=example,dc=org")
+        .modified(OffsetDateTime.now())
+        .build();
+    DomainGroup g1 = DomainGroup.builder()
+        .distinguishedName("cn=g1,dc=example,dc=org")
+        .build();
+    String entityTag = EntityTags.of(Arrays.asList(g0, g1));
+    assertEquals(entityTag, EntityTags.of(Arrays.asList(g0, g1)));
+    assertNotEquals(entityTag, EntityTags.of(Arrays.asList(g1, g0)));
+    assertNotEquals(entityTag, EntityTags.of(Arrays.asList(g0, g1), "name,desc"));
+  }
+
+  /**
+   * Matches.
+   */
+  @Test
+  void matches() {
+    String entityTag = EntityTags.of(DnsZone.builder().distinguishedName("dc=zone").build());
+    assertTrue(EntityTags.matches(entityTag, entityTag));
+    assertTrue(EntityTags.matches(entityTag.substring(2), entityTag));
+    assertTrue(EntityTags.matches("\"other\", " + entityTag, entityTag));
+    assertTrue(EntityTags.matches("*", entityTag));
+    assertFalse(EntityTags.matches("\"other\"", entityTag));
+    assertFalse(EntityTags.matches(null, entityTag));
+    assertFalse(EntityTags.matches(" ", entityTag));
+    assertFalse(EntityTags.matches(entityTag, null));
+  }
+
+}
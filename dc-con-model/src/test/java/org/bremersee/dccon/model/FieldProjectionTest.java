@@ -0,0 +1,186 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The field projection test.
+ *
+ * @author Christian Bremer
+ */
+class FieldProjectionTest {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule());
+
+  /**
+   * Projected domain user serializes only the requested properties.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  void projectDomainUser() throws Exception {
+    DomainUser user = DomainUser.builder()
+        .distinguishedName("cn=anna,cn=users,dc=example,dc=org")
+        .modified(OffsetDateTime.now())
+        .sid(Sid.builder().value("S-1-5-21-1-2-3-1000").build())
+        .userName("anna")
+        .enabled(true)
+        .displayName("Anna Livia")
+        .email("anna@example.org")
+        .logonCount(3)
+        .groups(Arrays.asList("admins", "staff"))
+        .build();
+
+    DomainUser projection = FieldProjection.DOMAIN_USER
+        .project(user, Arrays.asList("userName", " displayName", "email", ""));
+    JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(projection));
+    assertEquals(
+        new HashSet<>(Arrays.asList("_type", "userName", "displayName", "email")),
+        fieldNames(json));
+    assertEquals("DomainUser", json.get("_type").asText());
+    assertEquals("anna", json.get("userName").asText());
+    assertEquals("Anna Livia", json.get("displayName").asText());
+    assertEquals("anna@example.org", json.get("email").asText());
+
+    DomainUser actual = objectMapper.readValue(json.toString(), DomainUser.class);
+    assertEquals("anna", actual.getUserName());
+    assertNull(actual.getSid());
+  }
+
+  /**
+   * Requested empty and false values are serialized.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  void projectRequestedEmptyValues() throws Exception {
+    DomainUser user = DomainUser.builder().userName("anna").enabled(false).build();
+    DomainUser projection = FieldProjection.DOMAIN_USER
+        .project(user, Arrays.asList("enabled", "groups"));
+    JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(projection));
+    assertEquals(new HashSet<>(Arrays.asList("_type", "enabled", "groups")), fieldNames(json));
+    assertFalse(json.get("enabled").asBoolean());
+    assertEquals(0, json.get("groups").size());
+  }
+
+  /**
+   * Domain group without members.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  void projectDomainGroup() throws Exception {
+    DomainGroup group = DomainGroup.builder()
+        .name("staff")
+        .members(Arrays.asList("anna", "bob"))
+        .memberCount(2)
+        .build();
+    DomainGroup projection = FieldProjection.DOMAIN_GROUP
+        .project(group, Arrays.asList("name", "memberCount"));
+    JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(projection));
+    assertEquals(new HashSet<>(Arrays.asList("_type", "name", "memberCount")), fieldNames(json));
+    assertEquals(2, json.get("memberCount").asInt());
+  }
+
+  /**
+   * Dns node without records.
+   *
+   * @throws Exception the exception
+   */
+  @Test
+  void projectDnsNode() throws Exception {
+    DnsNode node = DnsNode.builder()
+        .name("pluto")
+        .records(Collections.singleton(DnsRecord.builder()
+            .recordType("A")
+            .recordValue("192.168.1.123")
+            .build()))
+        .build();
+    DnsNode projection = FieldProjection.DNS_NODE.project(node, Collections.singleton("name"));
+    JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(projection));
+    assertEquals(new HashSet<>(Arrays.asList("_type", "name")), fieldNames(json));
+  }
+
+  /**
+   * Without fields the entity itself is returned.
+   */
+  @Test
+  void projectWithoutFields() {
+    DomainUser user = DomainUser.builder().userName("anna").build();
+    assertSame(user, FieldProjection.DOMAIN_USER.project(user, null));
+    assertSame(user, FieldProjection.DOMAIN_USER.project(user, Collections.emptyList()));
+    assertSame(user, FieldProjection.DOMAIN_USER.project(user, Collections.singleton(" ")));
+    assertNull(FieldProjection.DOMAIN_USER.project(null, Collections.singleton("userName")));
+  }
+
+  /**
+   * Resolve.
+   */
+  @Test
+  void resolve() {
+    assertEquals(
+        FieldProjection.DOMAIN_USER.getProperties(),
+        FieldProjection.DOMAIN_USER.resolve(null));
+    assertEquals(
+        Collections.singleton("userName"),
+        FieldProjection.DOMAIN_USER.resolve(Arrays.asList("userName", "userName")));
+    assertFalse(FieldProjection.DOMAIN_USER.getProperties().contains("password"));
+    assertTrue(FieldProjection.DOMAIN_GROUP.getProperties().contains("members"));
+  }
+
+  /**
+   * Unknown property.
+   */
+  @Test
+  void unknownProperty() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> FieldProjection.DOMAIN_USER.project(
+            new DomainUser(), Arrays.asList("userName", "password")));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> FieldProjection.DNS_NODE.resolve(Collections.singleton("unknown")));
+  }
+
+  private static Set<String> fieldNames(JsonNode json) {
+    Set<String> names = new HashSet<>();
+    Iterator<String> iterator = json.fieldNames();
+    while (iterator.hasNext()) {
+      names.add(iterator.next());
+    }
+    return names;
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The immutable dhcp lease test.
+ *
+ * @author Christian Bremer
+ */
+class ImmutableDhcpLeaseTest {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule());
+
+  /**
+   * Of and to dhcp lease.
+   */
+  @Test
+  void ofAndToDhcpLease() {
+    String value = UUID.randomUUID().toString();
+    DhcpLease lease = DhcpLease.builder()
+        .mac("00:22:72:00:00:01")
+        .ip("192.168.1.10")
+        .hostname(value)
+        .begin(OffsetDateTime.now().minusHours(1L))
+        .end(OffsetDateTime.now().plusHours(1L))
+        .manufacturer("American Micro-Fuel Device Corp.")
+        .build();
+
+    ImmutableDhcpLease model = ImmutableDhcpLease.of(lease);
+    assertEquals(value, model.getHostname());
+    assertEquals(lease, model.toDhcpLease());
+    assertEquals(model, ImmutableDhcpLease.of(model.toDhcpLease()));
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertTrue(model.toString().contains(value));
+    assertNull(ImmutableDhcpLease.of(null));
+  }
+
+  /**
+   * The read model has the same json as the dhcp lease.
+   *
+   * @throws Exception if the json processing fails
+   */
+  @Test
+  void sameJson() throws Exception {
+    DhcpLease lease = DhcpLease.builder()
+        .mac("00:22:72:00:00:01")
+        .ip("192.168.1.10")
+        .hostname("pluto")
+        .begin(OffsetDateTime.now().minusHours(1L))
+        .end(OffsetDateTime.now().plusHours(1L))
+        .build();
+    JsonNode expected = json(lease);
+    assertEquals(expected, json(ImmutableDhcpLease.of(lease)));
+    assertEquals(expected, json(objectMapper.readValue(
+        expected.toString(), ImmutableDhcpLease.class)));
+    assertEquals(expected, json(objectMapper.readValue(
+        json(ImmutableDhcpLease.of(lease)).toString(), DhcpLease.class)));
+  }
+
+  private static JsonNode json(Object value) throws Exception {
+    return objectMapper.readTree(objectMapper.writeValueAsString(value));
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The immutable dns node test.
+ *
+ * @author Christian Bremer
+ */
+class ImmutableDnsNodeTest {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule());
+
+  /**
+   * Of and to dns node.
+   */
+  @Test
+  void ofAndToDnsNode() {
+    String value = UUID.randomUUID().toString();
+    DnsNode node = DnsNode.builder()
+        .distinguishedName("dc=" + value + ",dc=example.org")
+        .modified(OffsetDateTime.now())
+        .name(value)
+        .records(new LinkedHashSet<>(Arrays.asList(
+            DnsRecord.builder().recordType("A").recordValue("192.168.1.10").build(),
+            DnsRecord.builder().recordType("AAAA").recordValue("fe80::1").build())))
+        .build();
+
+    ImmutableDnsNode model = ImmutableDnsNode.of(node);
+    assertEquals(value, model.getName());
+    assertEquals(2, model.getRecords().size());
+    assertEquals("A", model.getRecords().iterator().next().getRecordType());
+    assertThrows(UnsupportedOperationException.class, () -> model.getRecords().clear());
+
+    assertEquals(node, model.toDnsNode());
+    assertEquals(model, ImmutableDnsNode.of(model.toDnsNode()));
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertTrue(model.toString().contains(value));
+    assertNull(ImmutableDnsNode.of(null));
+    assertTrue(ImmutableDnsNode.of(new DnsNode()).getRecords().isEmpty());
+  }
+
+  /**
+   * The read model has the same json as the dns node.
+   *
+   * @throws Exception if the json processing fails
+   */
+  @Test
+  void sameJson() throws Exception {
+    DnsNode node = DnsNode.builder()
+        .distinguishedName("dc=pluto,dc=example.org")
+        .created(OffsetDateTime.now().minusDays(1L))
+        .modified(OffsetDateTime.now())
+        .name("pluto")
+        .records(Collections.singleton(DnsRecord.builder()
+            .recordType("A")
+            .recordValue("192.168.1.10")
+            .recordRawValue("raw".getBytes(StandardCharsets.UTF_8))
+            .dhcpLease(DhcpLease.builder().mac("00:22:72:00:00:01").build())
+            .build()))
+        .build();
+    JsonNode expected = json(node);
+    assertEquals("DnsNode", expected.get("_type").asText());
+    assertEquals(expected, json(ImmutableDnsNode.of(node)));
+    assertEquals(expected, json(objectMapper.readValue(
+        expected.toString(), ImmutableDnsNode.class)));
+    assertEquals(expected, json(objectMapper.readValue(
+        json(ImmutableDnsNode.of(node)).toString(), DnsNode.class)));
+  }
+
+  private static JsonNode json(Object value) throws Exception {
+    return objectMapper.readTree(objectMapper.writeValueAsString(value));
+  }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The immutable dns record test.
+ *
+ * @author Christian Bremer
+ */
+class ImmutableDnsRecordTest {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule());
+
+  /**
+   * Of and to dns record.
+   */
+  @Test
+  void ofAndToDnsRecord() {
+    String value = UUID.randomUUID().toString();
+    byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+    DnsRecord record = DnsRecord.builder()
+        .recordType("A")
+        .recordValue(value)
+        .recordRawValue(raw)
+        .version(5)
+        .serial(12)
+        .ttlSeconds(900)
+        .timeStamp(OffsetDateTime.now())
+        .dhcpLease(DhcpLease.builder().mac("00:22:72:00:00:01").build())
+        .build();
+
+    ImmutableDnsRecord model = ImmutableDnsRecord.of(record);
+    assertEquals(value, model.getRecordValue());
+    assertEquals("00:22:72:00:00:01", model.getDhcpLease().getMac());
+    assertArrayEquals(raw, model.getRecordRawValue());
+    assertNotSame(model.getRecordRawValue(), model.getRecordRawValue());
+
+    raw[0] = 0;
+    assertNotEquals(raw[0], model.getRecordRawValue()[0]);
+    model.getRecordRawValue()[0] = 0;
+    assertNotEquals(0, model.getRecordRawValue()[0]);
+
+    DnsRecord actual = model.toDnsRecord();
+    assertEquals(record, actual);
+    assertEquals(record.getTimeStamp(), actual.getTimeStamp());
+    assertEquals(record.getDhcpLease(), actual.getDhcpLease());
+
+    assertEquals(model, ImmutableDnsRecord.of(actual));
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertTrue(model.toString().contains(value));
+    assertNull(ImmutableDnsRecord.of(null));
+  }
+
+  /**
+   * The read model has the same json as the dns record.
+   *
+   * @throws Exception if the json processing fails
+   */
+  @Test
+  void sameJson() throws Exception {
+    DnsRecord record = DnsRecord.builder()
+        .recordType("A")
+        .recordValue("192.168.1.10")
+        .recordRawValue("raw".getBytes(StandardCharsets.UTF_8))
+        .ttlSeconds(900)
+        .timeStamp(OffsetDateTime.now())
+        .dhcpLease(DhcpLease.builder().mac("00:22:72:00:00:01").build())
+        .build();
+    JsonNode expected = json(record);
+    assertEquals(expected, json(ImmutableDnsRecord.of(record)));
+    assertEquals(expected, json(objectMapper.readValue(
+        expected.toString(), ImmutableDnsRecord.class)));
+    assertEquals(expected, json(objectMapper.readValue(
+        json(ImmutableDnsRecord.of(record)).toString(), DnsRecord.class)));
+
+    DnsRecord withoutRawValue = record.toBuilder().recordRawValue(null).build();
+    assertFalse(json(ImmutableDnsRecord.of(withoutRawValue)).has("recordRawValue"));
+    assertEquals(json(withoutRawValue), json(ImmutableDnsRecord.of(withoutRawValue)));
+  }
+
+  /**
+   * The raw value can be read without copying it.
+   */
+  @Test
+  void getRecordRawValueBuffer() {
+    byte[] raw = "raw".getBytes(StandardCharsets.UTF_8);
+    ImmutableDnsRecord model = ImmutableDnsRecord.of(DnsRecord.builder()
+        .recordType("A")
+        .recordRawValue(raw)
+        .build());
+    ByteBuffer buffer = model.getRecordRawValueBuffer();
+    assertTrue(buffer.isReadOnly());
+    assertEquals(raw.length, buffer.remaining());
+    assertEquals(raw[0], buffer.get(0));
+    assertThrows(ReadOnlyBufferException.class, () -> buffer.put(0, (byte) 0));
+    assertNull(ImmutableDnsRecord.of(new DnsRecord()).getRecordRawValueBuffer());
+  }
+
+  private static JsonNode json(Object value) throws Exception {
+    return objectMapper.readTree(objectMapper.writeValueAsString(value));
+  }
+
+}
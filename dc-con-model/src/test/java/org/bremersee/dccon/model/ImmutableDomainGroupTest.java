@@ -0,0 +1,121 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The immutable domain group test.
+ *
+ * @author Christian Bremer
+ */
+class ImmutableDomainGroupTest {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule());
+
+  /**
+   * Of and to domain group.
+   */
+  @Test
+  void ofAndToDomainGroup() {
+    String value = UUID.randomUUID().toString();
+    DomainGroup group = DomainGroup.builder()
+        .distinguishedName("cn=" + value + ",cn=users,dc=example,dc=org")
+        .modified(OffsetDateTime.now())
+        .sid(Sid.builder().value("S-1-5-21-1-2-3-1100").build())
+        .name(value)
+        .description("The staff")
+        .members(Arrays.asList("anna", "bob"))
+        .memberCount(2)
+        .build();
+
+    ImmutableDomainGroup model = ImmutableDomainGroup.of(group);
+    assertEquals(value, model.getName());
+    assertEquals(Arrays.asList("anna", "bob"), model.getMembers());
+    assertEquals(2, model.getMemberCount());
+    assertEquals(group.getSid(), model.getSid());
+    assertSame(model.getSid(), model.getSid());
+    assertNotSame(group.getSid(), model.getSid());
+    assertThrows(UnsupportedOperationException.class, () -> model.getMembers().remove(0));
+
+    assertEquals(group, model.toDomainGroup());
+    assertEquals(model, ImmutableDomainGroup.of(model.toDomainGroup()));
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertTrue(model.toString().contains(value));
+    assertNull(ImmutableDomainGroup.of(null));
+  }
+
+  /**
+   * Compact members.
+   */
+  @Test
+  void compactMembers() {
+    assertEquals(Collections.emptyList(), ImmutableDomainGroup.of(new DomainGroup()).getMembers());
+    ImmutableDomainGroup model = ImmutableDomainGroup.of(DomainGroup.builder()
+        .members(Collections.singletonList("anna"))
+        .build());
+    assertEquals(Collections.singletonList("anna"), model.getMembers());
+  }
+
+  /**
+   * The read model has the same json as the domain group.
+   *
+   * @throws Exception if the json processing fails
+   */
+  @Test
+  void sameJson() throws Exception {
+    DomainGroup group = DomainGroup.builder()
+        .distinguishedName("cn=staff,cn=users,dc=example,dc=org")
+        .created(OffsetDateTime.now().minusDays(1L))
+        .modified(OffsetDateTime.now())
+        .sid(Sid.builder().value("S-1-5-21-1-2-3-1100").systemEntity(false).build())
+        .name("staff")
+        .description("The staff")
+        .members(Arrays.asList("anna", "bob"))
+        .memberCount(2)
+        .build();
+    JsonNode expected = json(group);
+    assertEquals("DomainGroup", expected.get("_type").asText());
+    assertEquals(expected, json(ImmutableDomainGroup.of(group)));
+    assertEquals(expected, json(objectMapper.readValue(
+        expected.toString(), ImmutableDomainGroup.class)));
+    assertEquals(expected, json(objectMapper.readValue(
+        json(ImmutableDomainGroup.of(group)).toString(), DomainGroup.class)));
+  }
+
+  private static JsonNode json(Object value) throws Exception {
+    return objectMapper.readTree(objectMapper.writeValueAsString(value));
+  }
+
+}
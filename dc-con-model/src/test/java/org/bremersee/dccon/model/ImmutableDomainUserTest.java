@@ -0,0 +1,157 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The immutable domain user test.
+ *
+ * @author Christian Bremer
+ */
+class ImmutableDomainUserTest {
+
+  private static final ObjectMapper objectMapper = new ObjectMapper()
+      .registerModule(new JavaTimeModule());
+
+  /**
+   * Of and to domain user.
+   */
+  @Test
+  void ofAndToDomainUser() {
+    String value = UUID.randomUUID().toString();
+    List<String> groups = new ArrayList<>(Arrays.asList("admins", "staff"));
+    DomainUser user = DomainUser.builder()
+        .distinguishedName("cn=" + value + ",cn=users,dc=example,dc=org")
+        .created(OffsetDateTime.now().minusDays(1L))
+        .modified(OffsetDateTime.now())
+        .sid(Sid.builder().value("S-1-5-21-1-2-3-1000").systemEntity(false).build())
+        .userName(value)
+        .enabled(true)
+        .firstName("Anna")
+        .lastName("Livia")
+        .displayName("Anna Livia")
+        .email("anna@example.org")
+        .logonCount(3)
+        .password("secret")
+        .groups(groups)
+        .build();
+
+    ImmutableDomainUser model = ImmutableDomainUser.of(user);
+    assertEquals(value, model.getUserName());
+    assertEquals(true, model.getEnabled());
+    assertEquals(groups, model.getGroups());
+    assertEquals(user.getSid(), model.getSid());
+    assertSame(model.getSid(), model.getSid());
+    assertThrows(UnsupportedOperationException.class, () -> model.getSid().setValue("S-1-5-7"));
+
+    groups.add("other");
+    assertEquals(2, model.getGroups().size());
+    assertThrows(UnsupportedOperationException.class, () -> model.getGroups().add("other"));
+
+    DomainUser actual = model.toDomainUser();
+    assertNull(actual.getPassword());
+    assertEquals(user.toBuilder().password(null).groups(Arrays.asList("admins", "staff")).build(),
+        actual);
+
+    assertEquals(model, ImmutableDomainUser.of(actual));
+    assertEquals(model.hashCode(), ImmutableDomainUser.of(actual).hashCode());
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertTrue(model.toString().contains(value));
+    assertNull(ImmutableDomainUser.of(null));
+  }
+
+  /**
+   * Empty groups.
+   */
+  @Test
+  void emptyGroups() {
+    ImmutableDomainUser model = ImmutableDomainUser.of(new DomainUser());
+    assertTrue(model.getGroups().isEmpty());
+    assertEquals(false, model.getEnabled());
+    assertNull(model.getSid());
+  }
+
+  /**
+   * Enabled is kept as given.
+   */
+  @Test
+  void enabledIsKeptAsGiven() {
+    ImmutableDomainUser model = new ImmutableDomainUser(null, null, null, null, "anna", null,
+        null, null, null, null, null, null, null, null, null, null, null, null, null, null);
+    assertNull(model.getEnabled());
+  }
+
+  /**
+   * The read model has the same json as the domain user, except the password, which the read model
+   * doesn't have.
+   *
+   * @throws Exception if the json processing fails
+   */
+  @Test
+  void sameJson() throws Exception {
+    DomainUser user = DomainUser.builder()
+        .distinguishedName("cn=anna,cn=users,dc=example,dc=org")
+        .created(OffsetDateTime.now().minusDays(1L))
+        .modified(OffsetDateTime.now())
+        .sid(Sid.builder().value("S-1-5-21-1-2-3-1000").systemEntity(false).build())
+        .userName("anna")
+        .enabled(true)
+        .firstName("Anna")
+        .lastName("Livia")
+        .displayName("Anna Livia")
+        .email("anna@example.org")
+        .lastLogon(OffsetDateTime.now())
+        .logonCount(3)
+        .passwordLastSet(OffsetDateTime.now().minusDays(7L))
+        .password("secret")
+        .groups(Arrays.asList("admins", "staff"))
+        .build();
+    JsonNode expected = json(user);
+    assertEquals("secret", expected.get("password").asText());
+    ((ObjectNode) expected).remove("password");
+    assertEquals("DomainUser", expected.get("_type").asText());
+
+    assertEquals(expected, json(ImmutableDomainUser.of(user)));
+    assertEquals(expected, json(objectMapper.readValue(
+        expected.toString(), ImmutableDomainUser.class)));
+    assertEquals(expected, json(objectMapper.readValue(
+        json(ImmutableDomainUser.of(user)).toString(), DomainUser.class)));
+  }
+
+  private static JsonNode json(Object value) throws Exception {
+    return objectMapper.readTree(objectMapper.writeValueAsString(value));
+  }
+
+}
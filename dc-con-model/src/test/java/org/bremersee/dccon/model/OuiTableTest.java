@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The oui table test.
+ *
+ * @author Christian Bremer
+ */
+class OuiTableTest {
+
+  /**
+   * Load text format.
+   *
+   * @throws IOException the io exception
+   */
+  @Test
+  void loadTextFormat() throws IOException {
+    String registry = "OUI/MA-L                                                    Organization\n"
+        + "company_id                                                  Organization\n"
+        + "                                                            Address\n"
+        + "\n"
+        + "00-22-72   (hex)\t\tAmerican Micro-Fuel Device Corp.\n"
+        + "002272     (base 16)\t\tAmerican Micro-Fuel Device Corp.\n"
+        + "\t\t\t\t2181 Buchanan Loop\n"
+        + "\n"
+        + "00-D0-EF   (hex)\t\tIGT\n"
+        + "00D0EF     (base 16)\t\tIGT\n";
+    OuiTable table = OuiTable.load(new StringReader(registry));
+    assertEquals(2, table.size());
+    assertEquals("American Micro-Fuel Device Corp.", table.findManufacturer("00:22:72:aa:bb:cc"));
+    assertEquals("IGT", table.findManufacturer("00-d0-ef-00-00-01"));
+    assertEquals("IGT", table.findManufacturer("00d0.ef00.0001"));
+    assertNull(table.findManufacturer("00:d0:f0:00:00:01"));
+  }
+
+  /**
+   * Load csv format.
+   *
+   * @throws IOException the io exception
+   */
+  @Test
+  void loadCsvFormat() throws IOException {
+    String registry = "Registry,Assignment,Organization Name,Organization Address\n"
+        + "MA-L,002272,American Micro-Fuel Device Corp.,2181 Buchanan Loop Ferndale WA US 98248\n"
+        + "MA-L,00D0EF,\"IGT, Inc.\",9295 PROTOTYPE DRIVE RENO NV US 89511\n"
+        + "MA-L,00D0EF,Duplicate,\n";
+    OuiTable table = OuiTable.load(new StringReader(registry));
+    assertEquals(2, table.size());
+    assertEquals("American Micro-Fuel Device Corp.", table.findManufacturer("002272AABBCC"));
+    assertEquals("IGT, Inc.", table.findManufacturer("00:D0:EF:00:00:01"));
+  }
+
+  /**
+   * Find manufacturer of invalid mac.
+   */
+  @Test
+  void findManufacturerOfInvalidMac() {
+    OuiTable table = OuiTable.of(Collections.singletonMap(0x0022_72L, "Vendor"));
+    assertEquals("Vendor", table.findManufacturer("00:22:72:00:00:00"));
+    assertNull(table.findManufacturer(null));
+    assertNull(table.findManufacturer("00:22"));
+    assertNull(OuiTable.EMPTY.findManufacturer("00:22:72:00:00:00"));
+    assertEquals(-1L, OuiTable.prefix("xyz"));
+    assertEquals(0x0022_72L, OuiTable.prefix("00-22-72"));
+  }
+
+  /**
+   * Prefix of mac with invalid characters.
+   */
+  @Test
+  void prefixOfMacWithInvalidCharacters() {
+    assertEquals(0xCAFE_BAL, OuiTable.prefix("ca:fe:ba:be:00:01"));
+    assertEquals(0xCAFE_BAL, OuiTable.prefix("CAFE.BABE.0001"));
+    assertEquals(-1L, OuiTable.prefix("hello-cafe-babe"));
+    assertEquals(-1L, OuiTable.prefix("ca fe ba be 00 01"));
+    assertEquals(-1L, OuiTable.prefix("ca:fe:ba:be:00:0g"));
+    // arabic-indic digits are digits, but not hex digits of a mac address
+    assertEquals(-1L, OuiTable.prefix("\u0660\u0661:22:72:00:00:00"));
+    assertNull(OuiTable.of(Collections.singletonMap(0x0022_72L, "Vendor"))
+        .findManufacturer("x0:22:72:00:00:00"));
+  }
+
+}
@@ -16,8 +16,11 @@
 
 package org.bremersee.dccon.model;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.UUID;
@@ -70,4 +73,60 @@ class SidTest {
 
     assertTrue(model.toString().contains("true"));
   }
-}
\ No newline at end of file
+
+  /**
+   * To binary.
+   */
+  @Test
+  void toBinary() {
+    String value = "S-1-5-21-1004336348-1177238915-682003330-512";
+    Sid.Binary binary = Sid.builder().value(value).build().toBinary();
+    assertEquals(1, binary.getRevision());
+    assertEquals(5L, binary.getAuthority());
+    assertEquals(5, binary.getSubAuthorityCount());
+    assertEquals(21L, binary.getSubAuthority(0));
+    assertEquals(512L, binary.getRid());
+    assertEquals(value, binary.toString());
+    assertEquals(binary, Sid.Binary.parse(value.toLowerCase()));
+    assertEquals(binary.hashCode(), Sid.Binary.parse(value).hashCode());
+    assertNotEquals(binary, Sid.Binary.parse("S-1-5-21-1004336348-1177238915-682003330-513"));
+    assertNull(new Sid().toBinary());
+    assertEquals(-1L, Sid.Binary.parse("S-1-5").getRid());
+    assertEquals("S-1-0x1234567890AB-4294967295",
+        Sid.Binary.parse("S-1-0x1234567890AB-4294967295").toString());
+  }
+
+  /**
+   * Parse invalid sid.
+   */
+  @Test
+  void parseInvalidSid() {
+    assertThrows(IllegalArgumentException.class, () -> Sid.Binary.parse(null));
+    assertThrows(IllegalArgumentException.class, () -> Sid.Binary.parse("S-1-5-"));
+    assertThrows(IllegalArgumentException.class, () -> Sid.Binary.parse("X-1-5-32"));
+    assertThrows(IllegalArgumentException.class, () -> Sid.Binary.parse("S-1-5-4294967296"));
+    assertThrows(IllegalArgumentException.class, () -> Sid.Binary.parse("S-256-5"));
+    assertThrows(IllegalArgumentException.class, () -> Sid.Binary.parse("S-1-5-a"));
+    assertThrows(IllegalArgumentException.class,
+        () -> Sid.builder().value(UUID.randomUUID().toString()).build().toBinary());
+  }
+
+  /**
+   * Encode and decode object sid.
+   */
+  @Test
+  void encodeAndDecodeObjectSid() {
+    Sid.Binary binary = Sid.Binary.parse("S-1-5-21-1004336348-1177238915-682003330-512");
+    byte[] objectSid = binary.encode();
+    assertArrayEquals(new byte[]{
+        0x01, 0x05, 0x00, 0x00, 0x00, 0x00, 0x00, 0x05,
+        0x15, 0x00, 0x00, 0x00,
+        (byte) 0xdc, (byte) 0xf4, (byte) 0xdc, 0x3b,
+        (byte) 0x83, 0x3d, 0x2b, 0x46,
+        (byte) 0x82, (byte) 0x8b, (byte) 0xa6, 0x28,
+        0x00, 0x02, 0x00, 0x00}, objectSid);
+    assertEquals(binary, Sid.Binary.decode(objectSid));
+    assertThrows(IllegalArgumentException.class, () -> Sid.Binary.decode(null));
+    assertThrows(IllegalArgumentException.class, () -> Sid.Binary.decode(new byte[9]));
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The sort order compiler test.
+ *
+ * @author Christian Bremer
+ */
+class SortOrderCompilerTest {
+
+  /**
+   * Compile domain user sort order.
+   */
+  @Test
+  void compileDomainUserSortOrder() {
+    DomainUser anna = DomainUser.builder().userName("anna").logonCount(3).build();
+    DomainUser bob = DomainUser.builder().userName("Bob").logonCount(1).build();
+    DomainUser nobody = DomainUser.builder().logonCount(2).build();
+    List<DomainUser> users = new ArrayList<>(Arrays.asList(nobody, bob, anna));
+
+    users.sort(SortOrderCompiler.DOMAIN_USER.compile(DomainUser.DEFAULT_SORT_ORDER));
+    assertEquals(Arrays.asList(anna, bob, nobody), users);
+
+    users.sort(SortOrderCompiler.DOMAIN_USER.compile("userName,asc,false,true"));
+    assertEquals(Arrays.asList(nobody, bob, anna), users);
+
+    users.sort(SortOrderCompiler.DOMAIN_USER.compile("logonCount,desc"));
+    assertEquals(Arrays.asList(anna, nobody, bob), users);
+
+    assertSame(
+        SortOrderCompiler.DOMAIN_USER.compile(DomainUser.DEFAULT_SORT_ORDER),
+        SortOrderCompiler.DOMAIN_USER.compile(DomainUser.DEFAULT_SORT_ORDER));
+  }
+
+  /**
+   * Compile domain group sort order.
+   */
+  @Test
+  void compileDomainGroupSortOrder() {
+    DomainGroup g0 = DomainGroup.builder().name("admins").memberCount(2).build();
+    DomainGroup g1 = DomainGroup.builder().name("Users").memberCount(2).build();
+    DomainGroup g2 = DomainGroup.builder().name("guests").memberCount(5).build();
+    List<DomainGroup> groups = new ArrayList<>(Arrays.asList(g1, g2, g0));
+
+    groups.sort(SortOrderCompiler.DOMAIN_GROUP.compile(DomainGroup.DEFAULT_SORT_ORDER));
+    assertEquals(Arrays.asList(g0, g2, g1), groups);
+
+    groups.sort(SortOrderCompiler.DOMAIN_GROUP.compile("memberCount,desc|name"));
+    assertEquals(Arrays.asList(g2, g0, g1), groups);
+  }
+
+  /**
+   * Compile dhcp lease sort order.
+   */
+  @Test
+  void compileDhcpLeaseSortOrder() {
+    OffsetDateTime now = OffsetDateTime.now();
+    DhcpLease l0 = DhcpLease.builder().hostname("b").ip("10.0.0.2").begin(now).build();
+    DhcpLease l1 = DhcpLease.builder().hostname("a").ip("10.0.0.3").begin(now).build();
+    DhcpLease l2 = DhcpLease.builder().hostname("c").ip("10.0.0.1")
+        .begin(now.minusHours(1L)).build();
+    List<DhcpLease> leases = new ArrayList<>(Arrays.asList(l2, l0, l1));
+
+    leases.sort(SortOrderCompiler.DHCP_LEASE.compile(DhcpLease.SORT_ORDER_BEGIN_HOSTNAME));
+    assertEquals(Arrays.asList(l1, l0, l2), leases);
+
+    leases.sort(SortOrderCompiler.DHCP_LEASE.compile(DhcpLease.SORT_ORDER_IP_BEGIN_HOSTNAME));
+    assertEquals(Arrays.asList(l2, l0, l1), leases);
+  }
+
+  /**
+   * Compile dns record sort order.
+   */
+  @Test
+  void compileDnsRecordSortOrder() {
+    OffsetDateTime now = OffsetDateTime.now();
+    DnsRecord r0 = DnsRecord.builder().timeStamp(now.minusDays(1L)).build();
+    DnsRecord r1 = DnsRecord.builder().timeStamp(now).build();
+    DnsRecord r2 = DnsRecord.builder().build();
+    List<DnsRecord> records = new ArrayList<>(Arrays.asList(r2, r0, r1));
+
+    records.sort(SortOrderCompiler.DNS_RECORD.compile(DnsRecord.SORT_ORDER_TIME_STAMP_DESC));
+    assertEquals(Arrays.asList(r1, r0, r2), records);
+  }
+
+  /**
+   * Compile invalid sort order.
+   */
+  @Test
+  void compileInvalidSortOrder() {
+    assertThrows(IllegalArgumentException.class,
+        () -> SortOrderCompiler.DOMAIN_USER.compile(null));
+    assertThrows(IllegalArgumentException.class,
+        () -> SortOrderCompiler.DOMAIN_USER.compile("password"));
+    assertThrows(IllegalArgumentException.class,
+        () -> SortOrderCompiler.DOMAIN_USER.compile("userName,up"));
+    assertThrows(IllegalArgumentException.class,
+        () -> SortOrderCompiler.DOMAIN_USER.compile("userName,asc,true,true,true"));
+    assertTrue(SortOrderCompiler.DOMAIN_USER.getProperties().contains("userName"));
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.bremersee.dccon.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tombstone test.
+ *
+ * @author Christian Bremer
+ */
+class TombstoneTest {
+
+  /**
+   * Gets name.
+   */
+  @Test
+  void getName() {
+    String value = UUID.randomUUID().toString();
+    Tombstone model = new Tombstone();
+    model.setName(value);
+    assertEquals(value, model.getName());
+
+    model = Tombstone.builder().name(value).build();
+    assertEquals(value, model.getName());
+
+    assertNotEquals(model, null);
+    assertNotEquals(model, new Object());
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().name(value).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets distinguished name.
+   */
+  @Test
+  void getDistinguishedName() {
+    String value = UUID.randomUUID().toString();
+    Tombstone model = new Tombstone();
+    model.setDistinguishedName(value);
+    assertEquals(value, model.getDistinguishedName());
+
+    model = Tombstone.builder().distinguishedName(value).build();
+    assertEquals(value, model.getDistinguishedName());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().distinguishedName(value).build());
+
+    assertTrue(model.toString().contains(value));
+  }
+
+  /**
+   * Gets sid.
+   */
+  @Test
+  void getSid() {
+    Sid value = Sid.builder()
+        .value(UUID.randomUUID().toString())
+        .build();
+    Tombstone model = new Tombstone();
+    model.setSid(value);
+    assertEquals(value, model.getSid());
+
+    model = Tombstone.builder().sid(value).build();
+    assertEquals(value, model.getSid());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().sid(value).build());
+
+    assertTrue(model.toString().contains(value.toString()));
+  }
+
+  /**
+   * Gets deleted.
+   */
+  @Test
+  void getDeleted() {
+    OffsetDateTime value = OffsetDateTime.now();
+    Tombstone model = new Tombstone();
+    model.setDeleted(value);
+    assertEquals(value, model.getDeleted());
+
+    model = Tombstone.builder().deleted(value).build();
+    assertEquals(value, model.getDeleted());
+
+    assertEquals(model, model);
+    assertEquals(model, model.toBuilder().deleted(value).build());
+
+    assertTrue(model.toString().contains(value.toString()));
+  }
+}
@@ -43,5 +43,8 @@ class UnknownFilterTest {
     assertTrue(ALL.matches(DnsRecord.builder().recordType("UNKNOWN").build()));
     assertTrue(UNKNOWN.matches(DnsRecord.builder().recordType("UNKNOWN").build()));
     assertFalse(NO_UNKNOWN.matches(DnsRecord.builder().recordType("UNKNOWN").build()));
+    assertFalse(NO_UNKNOWN.matches(DnsRecord.builder().recordType("unknown").build()));
+    assertTrue(NO_UNKNOWN.matches(DnsRecord.builder().recordType("HINFO").build()));
+    assertFalse(UNKNOWN.matches(DnsRecord.builder().recordType("A").build()));
   }
 }
\ No newline at end of file